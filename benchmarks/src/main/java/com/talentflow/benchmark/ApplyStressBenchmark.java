@@ -0,0 +1,289 @@
+package com.talentflow.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentflow.TalentFlowApplication;
+import com.talentflow.entity.User;
+import com.talentflow.enums.ApplicationStatus;
+import com.talentflow.enums.Role;
+import com.talentflow.security.JwtTokenProvider;
+import com.talentflow.security.UserPrincipal;
+import com.talentflow.service.ApplicationCounters;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stress check for the apply path: thousands of candidates apply to the same job at once, each
+ * submitting several times concurrently, and the run verifies exactly-once semantics - one 201 per
+ * candidate, "already applied" for every other attempt, one row per candidate in the database, and
+ * matching outbox events and funnel counters - before printing the throughput. Attempts turned away
+ * with 503 because the connection pool is exhausted are retried, as a client would. Exits with status 1
+ * when any check fails.
+ *
+ * Options are {@code name=value} arguments: {@code applicants} (2000), {@code attempts} per
+ * applicant (3) and {@code concurrency}, the number of requests in flight (200). Anything starting
+ * with {@code --} is passed to the application, as in {@link ThreadModelLoadBenchmark}. Candidates
+ * are inserted directly and their tokens minted in-process, so seeding does not pay for thousands
+ * of password hashes.
+ */
+public class ApplyStressBenchmark {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String ALREADY_APPLIED = "You have already applied for this job";
+    private static final int MAX_RETRIES = 20;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    private String baseUrl;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        // Not MODE=MySQL: in that mode H2 occasionally hands out a duplicate identity under concurrent failed inserts
+        properties.put("spring.datasource.url", "jdbc:h2:mem:apply-stress;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("outbox.enabled", "false");
+        properties.put("rate-limit.enabled", "false");
+        // Queue for a connection rather than fail: a pool timeout during authentication surfaces as 403, not 503
+        properties.put("spring.datasource.hikari.connection-timeout", "30000");
+        properties.put("search.fulltext.directory", Files.createTempDirectory("apply-stress-search-").toString());
+        properties.put("springdoc.api-docs.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.talentflow", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        // Duplicate attempts are expected to fail on the unique key, which Hibernate logs at ERROR
+        properties.put("logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper", "OFF");
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                int separator = arg.indexOf('=');
+                if (separator < 0) {
+                    properties.put(arg.substring(2), "true");
+                } else {
+                    properties.put(arg.substring(2, separator), arg.substring(separator + 1));
+                }
+            } else if (arg.contains("=")) {
+                options.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else if (!arg.isBlank()) {
+                throw new IllegalArgumentException("Expected name=value or --application.property=value, got " + arg);
+            }
+        }
+        int applicants = Integer.parseInt(options.getOrDefault("applicants", "2000"));
+        int attempts = Integer.parseInt(options.getOrDefault("attempts", "3"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+
+        String[] applicationArgs = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        boolean passed;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TalentFlowApplication.class)
+                .run(applicationArgs)) {
+            passed = new ApplyStressBenchmark().run(context, applicants, attempts, concurrency);
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private boolean run(ConfigurableApplicationContext context, int applicants, int attempts, int concurrency)
+            throws Exception {
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        String recruiterToken = post("/api/auth/register", null, objectMapper.writeValueAsString(Map.of(
+                "fullName", "Stress Recruiter", "email", "recruiter@stress.test",
+                "password", "stress-password", "role", "RECRUITER"))).path("data").path("token").asText();
+        long jobId = post("/api/jobs", recruiterToken, objectMapper.writeValueAsString(Map.of(
+                "title", "Contended Position",
+                "description", "Every candidate in the run applies here at the same time",
+                "location", "Remote",
+                "employmentType", "FULL_TIME",
+                "requiredSkills", List.of("Java"),
+                "experienceLevel", "3+"))).path("data").path("id").asLong();
+        String[] tokens = seedCandidates(context, jdbcTemplate, applicants);
+        System.out.printf("Seeded job %d and %d candidates, %d attempts each, %d in flight%n",
+                jobId, applicants, attempts, concurrency);
+
+        // All attempts of one candidate are spread over the run, and start together behind the gate
+        List<String> submissions = new ArrayList<>(applicants * attempts);
+        for (int attempt = 0; attempt < attempts; attempt++) {
+            submissions.addAll(Arrays.asList(tokens));
+        }
+        Collections.shuffle(submissions);
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch gate = new CountDownLatch(1);
+        List<Future<Outcome>> outcomes = new ArrayList<>(submissions.size());
+        long started;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String token : submissions) {
+                outcomes.add(executor.submit(() -> {
+                    gate.await();
+                    inFlight.acquire();
+                    try {
+                        return apply(jobId, token);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            started = System.nanoTime();
+            gate.countDown();
+        }
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        long created = 0;
+        long duplicates = 0;
+        long retries = 0;
+        Map<String, Long> unexpected = new HashMap<>();
+        long[] latencies = new long[outcomes.size()];
+        for (int i = 0; i < outcomes.size(); i++) {
+            Outcome outcome = outcomes.get(i).get();
+            latencies[i] = outcome.nanos();
+            retries += outcome.retries();
+            if (outcome.status() == 201) {
+                created++;
+            } else if (outcome.status() == 400 && outcome.body().contains(ALREADY_APPLIED)) {
+                duplicates++;
+            } else {
+                unexpected.merge(outcome.status() + " " + message(outcome.body()), 1L, Long::sum);
+            }
+        }
+        Arrays.sort(latencies);
+
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM applications WHERE job_id = ?", Long.class, jobId);
+        Long repeatedCandidates = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT candidate_id FROM applications WHERE job_id = ? " +
+                "GROUP BY candidate_id HAVING COUNT(*) > 1) repeated", Long.class, jobId);
+        Long outboxEvents = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE job_id = ? AND type = 'APPLICATION_SUBMITTED'", Long.class, jobId);
+        long counted = context.getBean(ApplicationCounters.class).getCounts(jobId).get(ApplicationStatus.APPLIED);
+
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%d requests in %.2f s: %.1f req/s, %.1f applications/s, p50 %.2f ms, p99 %.2f ms, max %.2f ms%n",
+                submissions.size(), elapsedSeconds, submissions.size() / elapsedSeconds, created / elapsedSeconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6);
+        System.out.printf("%d attempts were retried after 503 Service Unavailable%n", retries);
+
+        boolean passed = check("201 Created per candidate", applicants, created)
+                & check("already applied responses", (long) applicants * (attempts - 1), duplicates)
+                & check("other responses", 0, unexpected.values().stream().mapToLong(Long::longValue).sum())
+                & check("application rows", applicants, rows)
+                & check("candidates with more than one row", 0, repeatedCandidates)
+                & check("APPLICATION_SUBMITTED outbox events", applicants, outboxEvents)
+                & check("APPLIED funnel counter", applicants, counted);
+        unexpected.forEach((response, count) -> System.out.printf("  %d x %s%n", count, response));
+        System.out.println(passed ? "PASSED" : "FAILED");
+        return passed;
+    }
+
+    private String[] seedCandidates(ConfigurableApplicationContext context, JdbcTemplate jdbcTemplate, int count) {
+        String passwordHash = context.getBean(PasswordEncoder.class).encode("stress-password");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[] {"Applicant " + i, "applicant" + i + "@stress.test", passwordHash, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (full_name, email, password, role, is_active, token_version, created_at) " +
+                "VALUES (?, ?, ?, 'CANDIDATE', TRUE, 0, ?)", rows);
+
+        JwtTokenProvider tokenProvider = context.getBean(JwtTokenProvider.class);
+        return jdbcTemplate.query("SELECT id, email FROM users WHERE role = 'CANDIDATE' ORDER BY id", (resultSet, rowNum) -> {
+            User user = new User();
+            user.setId(resultSet.getLong("id"));
+            user.setEmail(resultSet.getString("email"));
+            user.setPassword(passwordHash);
+            user.setRole(Role.CANDIDATE);
+            return tokenProvider.generateToken(UserPrincipal.create(user));
+        }).toArray(String[]::new);
+    }
+
+    // A busy server answers 503 before the attempt reaches the database, so retrying it keeps the counts exact
+    private Outcome apply(long jobId, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/applications/apply/" + jobId))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"resumeLink\":\"https://example.com/cv.pdf\"}"))
+                .build();
+        long sent = System.nanoTime();
+        int retries = 0;
+        HttpResponse<String> response;
+        while ((response = httpClient.send(request, HttpResponse.BodyHandlers.ofString())).statusCode() == 503
+                && retries < MAX_RETRIES) {
+            retries++;
+            Thread.sleep(ThreadLocalRandom.current().nextLong(50, 250));
+        }
+        long nanos = System.nanoTime() - sent;
+        return new Outcome(response.statusCode(), response.statusCode() == 201 ? "" : response.body(), nanos, retries);
+    }
+
+    private static String message(String body) {
+        try {
+            return objectMapper.readTree(body).path("message").asText(body);
+        } catch (Exception ex) {
+            return body;
+        }
+    }
+
+    private JsonNode post(String path, String token, String body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("POST " + path + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private static boolean check(String name, long expected, long actual) {
+        boolean ok = expected == actual;
+        System.out.printf("%-4s %-36s expected %d, got %d%n", ok ? "ok" : "FAIL", name, expected, actual);
+        return ok;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private record Outcome(int status, String body, long nanos, int retries) {
+    }
+}
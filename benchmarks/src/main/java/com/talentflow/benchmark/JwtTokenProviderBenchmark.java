@@ -0,0 +1,65 @@
+package com.talentflow.benchmark;
+
+import com.talentflow.enums.Role;
+import com.talentflow.security.JwtTokenProvider;
+import com.talentflow.security.UserPrincipal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issue and verify cost of {@link JwtTokenProvider}. Run with {@code -prof gc} to see allocation
+ * per operation alongside latency.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-with-at-least-256-bits-of-entropy";
+
+    private JwtTokenProvider tokenProvider;
+    private UserPrincipal userPrincipal;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "secret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "keyId", "benchmark");
+        ReflectionTestUtils.setField(tokenProvider, "verificationKeys", "retired=" + SECRET + "-retired");
+        ReflectionTestUtils.setField(tokenProvider, "expiration", TimeUnit.HOURS.toMillis(1));
+        tokenProvider.init();
+
+        userPrincipal = UserPrincipal.fromClaims(42L, "candidate@example.com", Role.CANDIDATE, 0);
+        token = tokenProvider.generateToken(userPrincipal);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(userPrincipal);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return tokenProvider.extractUsername(token);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return tokenProvider.validateToken(token, userPrincipal);
+    }
+}
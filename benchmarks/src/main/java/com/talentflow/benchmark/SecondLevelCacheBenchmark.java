@@ -0,0 +1,263 @@
+package com.talentflow.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentflow.TalentFlowApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Counts database round trips per request with the Hibernate second-level cache off and on. For each
+ * mode the application is started on a random port against a fresh database, seeded over HTTP, and
+ * every endpoint is called once per seeded key to warm up and then {@code requests} more times,
+ * reading the statement count of each request from the X-Query-Count header. Afterwards a logged-out
+ * token is sent again, which must be rejected, so a stale cached user would show up as a failure.
+ *
+ * Options are {@code name=value} arguments: {@code modes} (off,on), {@code requests} (200),
+ * {@code candidates} and {@code jobs} (20 each). Anything starting with {@code --} is passed to the
+ * application. The JWT and job caches are off, so the user is loaded on every authenticated request
+ * and only the second-level cache differs between the modes. Exits with status 1 when a check fails.
+ */
+public class SecondLevelCacheBenchmark {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String PASSWORD = "benchmark-password";
+    private static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private final Map<String, String> options;
+    private final List<String> applicationArgs;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private String baseUrl;
+    private boolean passed = true;
+
+    private SecondLevelCacheBenchmark(Map<String, String> options, List<String> applicationArgs) {
+        this.options = options;
+        this.applicationArgs = applicationArgs;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                applicationArgs.add(arg);
+            } else if (arg.contains("=")) {
+                options.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else if (!arg.isBlank()) {
+                throw new IllegalArgumentException("Expected name=value or --application.property=value, got " + arg);
+            }
+        }
+
+        SecondLevelCacheBenchmark benchmark = new SecondLevelCacheBenchmark(options, applicationArgs);
+        List<Result> results = new ArrayList<>();
+        for (String mode : benchmark.option("modes", "off,on").split(",")) {
+            results.addAll(benchmark.run(mode.trim().toLowerCase(Locale.ROOT)));
+        }
+
+        System.out.println();
+        System.out.printf("%-4s %-36s %10s %8s %14s%n", "L2", "endpoint", "requests", "errors", "queries/req");
+        for (Result result : results) {
+            System.out.println(result);
+        }
+        System.out.println(benchmark.passed ? "PASSED" : "FAILED");
+        System.exit(benchmark.passed ? 0 : 1);
+    }
+
+    private List<Result> run(String mode) throws Exception {
+        if (!mode.equals("off") && !mode.equals("on")) {
+            throw new IllegalArgumentException("Unknown mode " + mode);
+        }
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:l2-" + mode + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("second-level-cache.enabled", String.valueOf(mode.equals("on")));
+        properties.put("jwt.cache.enabled", "false");
+        properties.put("jobs.cache.enabled", "false");
+        properties.put("outbox.enabled", "false");
+        properties.put("rate-limit.enabled", "false");
+        properties.put("password.bcrypt.strength", "4");
+        properties.put("search.fulltext.directory", Files.createTempDirectory("l2-search-").toString());
+        properties.put("springdoc.api-docs.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.talentflow", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        // A repeated command line property would be joined with a comma, so overrides replace the defaults instead
+        for (String arg : applicationArgs) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                properties.put(arg.substring(2), "true");
+            } else {
+                properties.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+
+        System.out.printf("%n== second-level cache %s ==%n", mode);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TalentFlowApplication.class)
+                .run(args)) {
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            String recruiterToken = register("recruiter@l2.test", "RECRUITER");
+            int candidateCount = intOption("candidates", 20);
+            String[] candidateEmails = new String[candidateCount];
+            String[] candidateTokens = new String[candidateCount];
+            for (int i = 0; i < candidateCount; i++) {
+                candidateEmails[i] = "candidate" + i + "@l2.test";
+                candidateTokens[i] = register(candidateEmails[i], "CANDIDATE");
+            }
+            int jobCount = intOption("jobs", 20);
+            long[] jobIds = new long[jobCount];
+            long[] applicationIds = new long[jobCount];
+            for (int i = 0; i < jobCount; i++) {
+                jobIds[i] = post("/api/jobs", recruiterToken, jobBody("Cached Position " + i))
+                        .path("data").path("id").asLong();
+                applicationIds[i] = post("/api/applications/apply/" + jobIds[i], candidateTokens[i % candidateCount],
+                        "{\"resumeLink\":\"https://example.com/cv.pdf\"}").path("data").path("id").asLong();
+            }
+            System.out.printf("Seeded %d jobs, %d candidates and %d applications%n", jobCount, candidateCount, jobCount);
+
+            List<Result> results = new ArrayList<>();
+            results.add(measure(mode, "GET /api/applications/my", candidateCount, i -> request("/api/applications/my",
+                    candidateTokens[i % candidateCount]).GET().build()));
+            results.add(measure(mode, "GET /api/jobs/{id}", jobCount, i -> request("/api/jobs/" + jobIds[i % jobCount],
+                    recruiterToken).GET().build()));
+            results.add(measure(mode, "PUT /api/jobs/{id}", jobCount, i -> request("/api/jobs/" + jobIds[i % jobCount],
+                    recruiterToken).PUT(HttpRequest.BodyPublishers.ofString(jobBody("Cached Position " + i))).build()));
+            String[] statuses = {"SHORTLISTED", "APPLIED"};
+            results.add(measure(mode, "PUT /api/applications/{id}/status", jobCount, i -> request(
+                    "/api/applications/" + applicationIds[i % jobCount] + "/status", recruiterToken)
+                    .PUT(HttpRequest.BodyPublishers.ofString("{\"status\":\"" + statuses[(i / jobCount) % 2] + "\"}"))
+                    .build()));
+            results.add(measure(mode, "POST /api/auth/login", candidateCount, i -> request("/api/auth/login", null)
+                    .POST(HttpRequest.BodyPublishers.ofString(loginBody(candidateEmails[i % candidateCount])))
+                    .build()));
+
+            // Logout bumps the token version; a cached copy of the old user row would still accept the token
+            String loggedOut = candidateTokens[0];
+            send(request("/api/auth/logout", loggedOut).POST(HttpRequest.BodyPublishers.noBody()).build());
+            int status = send(request("/api/applications/my", loggedOut).GET().build()).statusCode();
+            check("token rejected after logout", status == 401 || status == 403, "got " + status);
+            return results;
+        }
+    }
+
+    private Result measure(String mode, String endpoint, int keys, IntFunction<HttpRequest> requests) throws Exception {
+        for (int i = 0; i < keys; i++) {
+            send(requests.apply(i));
+        }
+        int count = intOption("requests", 200);
+        long queries = 0;
+        long errors = 0;
+        for (int i = keys; i < keys + count; i++) {
+            HttpResponse<String> response = send(requests.apply(i));
+            if (response.statusCode() >= 300) {
+                errors++;
+            }
+            queries += response.headers().firstValueAsLong(QUERY_COUNT_HEADER)
+                    .orElseThrow(() -> new IllegalStateException("No " + QUERY_COUNT_HEADER + " header on " + endpoint));
+        }
+        Result result = new Result(mode, endpoint, count, errors, (double) queries / count);
+        System.out.println(result);
+        return result;
+    }
+
+    private String register(String email, String role) throws Exception {
+        String body = json(Map.of(
+                "fullName", "Cache " + role.toLowerCase(Locale.ROOT), "email", email, "password", PASSWORD, "role", role));
+        return post("/api/auth/register", null, body).path("data").path("token").asText();
+    }
+
+    private static String loginBody(String email) {
+        return json(Map.of("email", email, "password", PASSWORD));
+    }
+
+    private static String jobBody(String title) {
+        return json(Map.of(
+                "title", title,
+                "description", "Used to count the database round trips of a request",
+                "location", "Remote",
+                "employmentType", "FULL_TIME",
+                "requiredSkills", List.of("Java", "Hibernate"),
+                "experienceLevel", "3+"));
+    }
+
+    private static String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return request;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private JsonNode post(String path, String token, String body) throws Exception {
+        HttpResponse<String> response = send(request(path, token).POST(HttpRequest.BodyPublishers.ofString(body)).build());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("POST " + path + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private void check(String name, boolean ok, String detail) {
+        System.out.printf("%-4s %s (%s)%n", ok ? "ok" : "FAIL", name, detail);
+        passed &= ok;
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(option(name, String.valueOf(defaultValue)));
+    }
+
+    private record Result(String mode, String endpoint, long requests, long errors, double queriesPerRequest) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-4s %-36s %10d %8d %14.2f",
+                    mode, endpoint, requests, errors, queriesPerRequest);
+        }
+    }
+}
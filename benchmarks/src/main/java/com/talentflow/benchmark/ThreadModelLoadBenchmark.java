@@ -0,0 +1,330 @@
+package com.talentflow.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentflow.TalentFlowApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * In-JVM load test comparing Tomcat on platform threads with Tomcat on virtual threads. For each
+ * thread model the application is started on a random port against a fresh database, seeded over
+ * HTTP, and then driven by a fixed number of concurrent clients, first on {@code GET /api/jobs}
+ * and then on {@code POST /api/applications/apply/{jobId}}. Throughput and latency percentiles are
+ * printed per thread model and endpoint.
+ *
+ * Options are {@code name=value} arguments: {@code modes} (platform,virtual), {@code concurrency}
+ * (400), {@code warmup} and {@code duration} in seconds (5 and 20), {@code candidates} (100) and
+ * {@code jobs} (5000). Anything starting with {@code --} is passed to the application, e.g.
+ * {@code --spring.datasource.url=jdbc:mysql://...} to measure against MySQL instead of in-memory H2.
+ * The job cache is off so every listing request reaches the database, and rate limiting is off.
+ */
+public class ThreadModelLoadBenchmark {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String PASSWORD = "benchmark-password";
+
+    private final Map<String, String> options;
+    private final List<String> applicationArgs;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private String baseUrl;
+
+    private ThreadModelLoadBenchmark(Map<String, String> options, List<String> applicationArgs) {
+        this.options = options;
+        this.applicationArgs = applicationArgs;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                applicationArgs.add(arg);
+            } else if (arg.contains("=")) {
+                options.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else if (!arg.isBlank()) {
+                throw new IllegalArgumentException("Expected name=value or --application.property=value, got " + arg);
+            }
+        }
+
+        ThreadModelLoadBenchmark benchmark = new ThreadModelLoadBenchmark(options, applicationArgs);
+        List<Result> results = new ArrayList<>();
+        for (String mode : benchmark.option("modes", "platform,virtual").split(",")) {
+            results.addAll(benchmark.run(mode.trim().toLowerCase(Locale.ROOT)));
+        }
+
+        System.out.println();
+        System.out.printf("%-9s %-28s %10s %8s %12s %9s %9s %9s%n",
+                "threads", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+        for (Result result : results) {
+            System.out.println(result);
+        }
+        System.exit(0);
+    }
+
+    private List<Result> run(String mode) throws Exception {
+        if (!mode.equals("platform") && !mode.equals("virtual")) {
+            throw new IllegalArgumentException("Unknown thread model " + mode);
+        }
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.threads.virtual.enabled", String.valueOf(mode.equals("virtual")));
+        properties.put("spring.datasource.url", "jdbc:h2:mem:load-" + mode + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("jobs.cache.enabled", "false");
+        // Every client shares one address, which the per-address limit would throttle
+        properties.put("rate-limit.enabled", "false");
+        properties.put("search.fulltext.directory", Files.createTempDirectory("load-search-").toString());
+        properties.put("springdoc.api-docs.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.talentflow", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        // A repeated command line property would be joined with a comma, so overrides replace the defaults instead
+        for (String arg : applicationArgs) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                properties.put(arg.substring(2), "true");
+            } else {
+                properties.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+
+        System.out.printf("%n== %s threads ==%n", mode);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TalentFlowApplication.class)
+                .run(args)) {
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            int candidateCount = intOption("candidates", 100);
+            int jobCount = intOption("jobs", 5000);
+            String recruiterToken = register("recruiter@load.test", "RECRUITER");
+            long[] jobIds = createJobs(recruiterToken, jobCount);
+            String[] candidateTokens = registerCandidates(candidateCount);
+            System.out.printf("Seeded %d jobs and %d candidates%n", jobIds.length, candidateTokens.length);
+
+            List<Result> results = new ArrayList<>();
+            results.add(measure(mode, "GET /api/jobs", sequence -> HttpRequest.newBuilder(
+                    URI.create(baseUrl + "/api/jobs?page=" + (sequence % 10) + "&size=10")).GET().build()));
+
+            // Each request is a distinct (candidate, job) pair, so applications do not collide on the unique key
+            AtomicLong applications = new AtomicLong();
+            results.add(measure(mode, "POST /api/applications/apply", sequence -> {
+                long pair = applications.getAndIncrement();
+                String token = candidateTokens[(int) (pair % candidateTokens.length)];
+                long jobId = jobIds[(int) ((pair / candidateTokens.length) % jobIds.length)];
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/api/applications/apply/" + jobId))
+                        .header("Authorization", "Bearer " + token)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"resumeLink\":\"https://example.com/cv.pdf\"}"))
+                        .build();
+            }));
+            return results;
+        }
+    }
+
+    private Result measure(String mode, String endpoint, LongFunction<HttpRequest> requests) throws Exception {
+        int concurrency = intOption("concurrency", 400);
+        drive(concurrency, Duration.ofSeconds(intOption("warmup", 5)), requests);
+        Recording recording = drive(concurrency, Duration.ofSeconds(intOption("duration", 20)), requests);
+        Result result = recording.result(mode, endpoint);
+        System.out.println(result);
+        return result;
+    }
+
+    private Recording drive(int concurrency, Duration duration, LongFunction<HttpRequest> requests) throws Exception {
+        AtomicLong sequence = new AtomicLong();
+        long started = System.nanoTime();
+        long deadline = started + duration.toNanos();
+        List<Future<Latencies>> clients = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                clients.add(executor.submit(() -> {
+                    Latencies latencies = new Latencies();
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = requests.apply(sequence.getAndIncrement());
+                        long sent = System.nanoTime();
+                        boolean ok;
+                        try {
+                            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                            ok = status >= 200 && status < 300;
+                        } catch (IOException ex) {
+                            ok = false;
+                        }
+                        latencies.add(System.nanoTime() - sent, ok);
+                    }
+                    return latencies;
+                }));
+            }
+        }
+
+        Recording recording = new Recording(System.nanoTime() - started);
+        for (Future<Latencies> client : clients) {
+            recording.add(client.get());
+        }
+        return recording;
+    }
+
+    private String register(String email, String role) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "fullName", "Load " + role.toLowerCase(Locale.ROOT), "email", email, "password", PASSWORD, "role", role));
+        JsonNode response = post("/api/auth/register", null, "application/json", body);
+        return response.path("data").path("token").asText();
+    }
+
+    private String[] registerCandidates(int count) throws Exception {
+        String[] tokens = new String[count];
+        List<Future<String>> registrations = new ArrayList<>();
+        // Password hashing is CPU bound, more parallel registrations than cores only queue for connections
+        try (ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())) {
+            for (int i = 0; i < count; i++) {
+                String email = "candidate" + i + "@load.test";
+                registrations.add(executor.submit(() -> register(email, "CANDIDATE")));
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            tokens[i] = registrations.get(i).get();
+        }
+        return tokens;
+    }
+
+    private long[] createJobs(String recruiterToken, int count) throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            ndjson.append(objectMapper.writeValueAsString(Map.of(
+                    "title", "Load Test Engineer " + i,
+                    "description", "Keeps the platform fast under load, posting number " + i,
+                    "location", i % 2 == 0 ? "Remote" : "Bangalore, India",
+                    "employmentType", "FULL_TIME",
+                    "requiredSkills", List.of("Java", i % 3 == 0 ? "MySQL" : "Spring"),
+                    "experienceLevel", "3+"))).append('\n');
+        }
+        JsonNode response = post("/api/jobs/bulk", recruiterToken, "application/x-ndjson", ndjson.toString());
+        long[] jobIds = new long[count];
+        int created = 0;
+        for (JsonNode result : response.path("data").path("results")) {
+            if (result.path("success").asBoolean()) {
+                jobIds[created++] = result.path("jobId").asLong();
+            }
+        }
+        return Arrays.copyOf(jobIds, created);
+    }
+
+    private JsonNode post(String path, String token, String contentType, String body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("POST " + path + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(option(name, String.valueOf(defaultValue)));
+    }
+
+    // Per client, so recording needs no synchronization
+    private static final class Latencies {
+        private long[] nanos = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long latency, boolean ok) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = latency;
+            if (!ok) {
+                errors++;
+            }
+        }
+    }
+
+    private static final class Recording {
+        private final long elapsedNanos;
+        private final List<Latencies> clients = new ArrayList<>();
+
+        Recording(long elapsedNanos) {
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        void add(Latencies latencies) {
+            clients.add(latencies);
+        }
+
+        Result result(String mode, String endpoint) {
+            long[] all = new long[clients.stream().mapToInt(client -> client.size).sum()];
+            int offset = 0;
+            long errors = 0;
+            for (Latencies client : clients) {
+                System.arraycopy(client.nanos, 0, all, offset, client.size);
+                offset += client.size;
+                errors += client.errors;
+            }
+            Arrays.sort(all);
+            return new Result(mode, endpoint, all.length, errors, all.length / (elapsedNanos / 1e9),
+                    percentile(all, 0.50), percentile(all, 0.99), all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    private record Result(String mode, String endpoint, long requests, long errors, double throughput,
+                          double p50Millis, double p99Millis, double maxMillis) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-9s %-28s %10d %8d %12.1f %9.2f %9.2f %9.2f",
+                    mode, endpoint, requests, errors, throughput, p50Millis, p99Millis, maxMillis);
+        }
+    }
+}
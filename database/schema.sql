@@ -12,14 +12,30 @@ CREATE TABLE IF NOT EXISTS users (
     password VARCHAR(255) NOT NULL,
     role VARCHAR(50) NOT NULL,
     is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    token_version INT NOT NULL DEFAULT 0,
+    revoked_at DATETIME NULL,
     created_at DATETIME NOT NULL,
     INDEX idx_email (email),
-    INDEX idx_role (role)
+    INDEX idx_role (role),
+    INDEX idx_users_revoked_at (revoked_at)
 );
 
--- Jobs table
+-- Pooled id allocation for tables whose inserts are batched
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT
+);
+
+-- Bumped with every change to a listing, backs ETags of list endpoints
+CREATE TABLE IF NOT EXISTS listing_versions (
+    name VARCHAR(64) NOT NULL PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at DATETIME NOT NULL
+);
+
+-- Jobs table (ids come from id_sequences, see Job.ID_SEQUENCE)
 CREATE TABLE IF NOT EXISTS jobs (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     title VARCHAR(255) NOT NULL,
     description TEXT NOT NULL,
     location VARCHAR(255) NOT NULL,
@@ -28,10 +44,17 @@ CREATE TABLE IF NOT EXISTS jobs (
     status VARCHAR(50) NOT NULL DEFAULT 'OPEN',
     posted_by_id BIGINT NOT NULL,
     created_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL,
+    expires_at DATETIME NULL,
+    version BIGINT NOT NULL DEFAULT 0,
     FOREIGN KEY (posted_by_id) REFERENCES users(id) ON DELETE CASCADE,
     INDEX idx_status (status),
     INDEX idx_posted_by (posted_by_id),
-    INDEX idx_created_at (created_at)
+    INDEX idx_created_at (created_at),
+    INDEX idx_jobs_created_at_id (created_at, id),
+    INDEX idx_jobs_status_created_at_id (status, created_at, id),
+    INDEX idx_jobs_status_expires_at (status, expires_at),
+    INDEX idx_jobs_updated_at_id (updated_at, id)
 );
 
 -- Job skills collection table
@@ -50,11 +73,92 @@ CREATE TABLE IF NOT EXISTS applications (
     status VARCHAR(50) NOT NULL DEFAULT 'APPLIED',
     resume_link VARCHAR(500) NOT NULL,
     applied_at DATETIME NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
     FOREIGN KEY (candidate_id) REFERENCES users(id) ON DELETE CASCADE,
     FOREIGN KEY (job_id) REFERENCES jobs(id) ON DELETE CASCADE,
     UNIQUE KEY unique_application (candidate_id, job_id),
     INDEX idx_candidate (candidate_id),
-    INDEX idx_job (job_id),
+    INDEX idx_applications_job_applied_at (job_id, applied_at),
+    INDEX idx_applications_job_status_applied_at (job_id, status, applied_at),
     INDEX idx_status (status)
 );
 
+-- Application lifecycle events awaiting delivery to sinks (transactional outbox)
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    type VARCHAR(40) NOT NULL,
+    application_id BIGINT NOT NULL,
+    job_id BIGINT NOT NULL,
+    candidate_id BIGINT NOT NULL,
+    previous_status VARCHAR(50),
+    status VARCHAR(50) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    claim_token VARCHAR(36),
+    claimed_until DATETIME(6),
+    processed_at DATETIME(6),
+    failed_at DATETIME(6),
+    last_error VARCHAR(500),
+    INDEX idx_outbox_pending (processed_at, failed_at, next_attempt_at, id),
+    INDEX idx_outbox_claim_token (claim_token),
+    INDEX idx_outbox_application (application_id, id)
+);
+
+-- Jobs closed long enough ago, moved out of jobs by JobArchiver or an archiving delete
+CREATE TABLE IF NOT EXISTS jobs_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    employment_type VARCHAR(50) NOT NULL,
+    experience_level VARCHAR(255) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    posted_by_id BIGINT NOT NULL,
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL,
+    expires_at DATETIME NULL,
+    version BIGINT NOT NULL,
+    archived_at DATETIME NOT NULL,
+    INDEX idx_jobs_archive_posted_by (posted_by_id)
+);
+
+CREATE TABLE IF NOT EXISTS job_skills_archive (
+    job_id BIGINT NOT NULL,
+    skill VARCHAR(255) NOT NULL,
+    FOREIGN KEY (job_id) REFERENCES jobs_archive(id) ON DELETE CASCADE
+);
+
+-- Applications are archived before their job, so there are no foreign keys to the archived job
+CREATE TABLE IF NOT EXISTS applications_archive (
+    id BIGINT PRIMARY KEY,
+    candidate_id BIGINT NOT NULL,
+    job_id BIGINT NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    resume_link VARCHAR(500) NOT NULL,
+    applied_at DATETIME NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at DATETIME NOT NULL,
+    INDEX idx_applications_archive_job (job_id),
+    INDEX idx_applications_archive_candidate (candidate_id)
+);
+
+-- Written to the primary by every replica lag probe and read back from each replica
+CREATE TABLE IF NOT EXISTS replica_heartbeat (
+    id INT PRIMARY KEY,
+    beat_millis BIGINT NOT NULL
+);
+
+-- Ids of removed jobs, read by every node's search index change feed and pruned after a retention period
+CREATE TABLE IF NOT EXISTS job_tombstones (
+    job_id BIGINT NOT NULL PRIMARY KEY,
+    deleted_at DATETIME NOT NULL,
+    INDEX idx_job_tombstones_deleted_at (deleted_at)
+);
+
+-- Keeps scheduled jobs (job-expiry, job-archive) to one node at a time
+CREATE TABLE IF NOT EXISTS scheduler_leases (
+    name VARCHAR(64) NOT NULL PRIMARY KEY,
+    owner VARCHAR(64),
+    leased_until DATETIME NOT NULL
+);
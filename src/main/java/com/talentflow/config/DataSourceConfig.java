@@ -0,0 +1,107 @@
+package com.talentflow.config;
+
+import com.talentflow.datasource.ReplicaRoutingDataSource;
+import com.talentflow.datasource.WriteTrackingStatementInspector;
+import com.talentflow.monitoring.QueryCountInspector;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The application's DataSource is a LazyConnectionDataSourceProxy: a transaction only takes a pooled
+ * connection once it runs its first statement, so cache hits inside read-only transactions cost no
+ * connection, and the replica router sees the transaction's read-only flag before choosing a pool.
+ * Without replicas.enabled it wraps the primary pool directly.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceConfig.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "replicas", name = "enabled", havingValue = "true")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaProperties replicaProperties,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        if (replicaProperties.getInstances().isEmpty()) {
+            throw new IllegalStateException("replicas.enabled needs at least one entry in replicas.instances");
+        }
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (ReplicaProperties.Instance instance : replicaProperties.getInstances()) {
+            String name = "replica-" + (replicas.size() + 1);
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setPoolName(name);
+            config.setJdbcUrl(instance.getUrl());
+            if (StringUtils.hasText(instance.getUsername())) {
+                config.setUsername(instance.getUsername());
+                config.setPassword(instance.getPassword());
+            }
+            config.setReadOnly(true);
+            // A replica that is down at startup is left out of rotation by the lag probe instead
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(null);
+            meterRegistry.ifAvailable(registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.put(name, new HikariDataSource(config));
+        }
+
+        logger.info("Routing read-only transactions to {} replicas, max lag {}, read-your-writes {}",
+                replicas.size(), replicaProperties.getMaxLag(), replicaProperties.getReadYourWrites());
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+                replicaProperties.getMaxLag(), replicaProperties.getReadYourWrites());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource) {
+        DataSource target = replicaRoutingDataSource.getIfAvailable();
+        return new LazyConnectionDataSourceProxy(target != null ? target : primaryDataSource);
+    }
+
+    /**
+     * Hibernate otherwise keeps a session's connection until the session closes, and with
+     * open-in-view a request's later transactions would reuse the pool its first one was routed to.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "replicas", name = "enabled", havingValue = "true")
+    public HibernatePropertiesCustomizer releaseConnectionsAfterTransaction() {
+        return properties -> properties.put("hibernate.connection.handling_mode",
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+
+    // Replaces the configured QueryCountInspector with one that also reports writes, then delegates to it
+    @Bean
+    @ConditionalOnProperty(prefix = "replicas", name = "enabled", havingValue = "true")
+    public HibernatePropertiesCustomizer trackWritesForReadYourWrites(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                new WriteTrackingStatementInspector(replicaRoutingDataSource, new QueryCountInspector()));
+    }
+}
@@ -0,0 +1,51 @@
+package com.talentflow.config;
+
+import com.talentflow.entity.Job;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the pooled job id sequence past ids that were assigned by AUTO_INCREMENT before jobs
+ * switched to table-generated ids. Runs before the web server accepts requests.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void initialize() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM jobs", Long.class);
+        // The pooled optimizer hands out (next_val - allocationSize, next_val] for every value it reads
+        long floor = maxId + Job.ID_ALLOCATION_SIZE;
+
+        int updated = jdbcTemplate.update(
+                "UPDATE id_sequences SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                floor, Job.ID_SEQUENCE, floor);
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM id_sequences WHERE sequence_name = ?", Integer.class, Job.ID_SEQUENCE);
+        if (rows == 0) {
+            try {
+                jdbcTemplate.update("INSERT INTO id_sequences (sequence_name, next_val) VALUES (?, ?)",
+                        Job.ID_SEQUENCE, floor);
+                updated = 1;
+            } catch (DuplicateKeyException ex) {
+                logger.debug("Job id sequence was seeded concurrently by another node");
+            }
+        }
+
+        if (updated > 0) {
+            logger.info("Job id sequence moved to {}", floor);
+        }
+    }
+}
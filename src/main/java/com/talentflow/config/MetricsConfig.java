@@ -0,0 +1,147 @@
+package com.talentflow.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.talentflow.datasource.ReplicaRoutingDataSource;
+import com.talentflow.security.PooledPasswordEncoder;
+import com.talentflow.security.RateLimiter;
+import com.talentflow.security.TokenCache;
+import com.talentflow.service.JobExpiryService;
+import com.talentflow.service.SecondLevelCache;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enables @Timed on beans (the services are annotated at class level) and exports the in-process
+ * components that already keep their own counters. HTTP, Hikari, Tomcat, JVM and Hibernate
+ * statistics meters come from Spring Boot's auto-configuration.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterBinder tokenCacheMetrics(TokenCache tokenCache) {
+        return registry -> {
+            Gauge.builder("talentflow.token.cache.size", tokenCache, TokenCache::size)
+                    .description("Verified tokens held by the JWT filter cache")
+                    .register(registry);
+            FunctionCounter.builder("talentflow.token.cache.requests", tokenCache, TokenCache::getHits)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("talentflow.token.cache.requests", tokenCache, TokenCache::getMisses)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("talentflow.token.cache.evictions", tokenCache, TokenCache::getEvictions)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(PooledPasswordEncoder passwordEncoder) {
+        return registry -> {
+            Gauge.builder("talentflow.password.hashing.queue", passwordEncoder, PooledPasswordEncoder::getQueueDepth)
+                    .description("Password hashes waiting for a hashing thread")
+                    .register(registry);
+            Gauge.builder("talentflow.password.hashing.active", passwordEncoder, PooledPasswordEncoder::getActiveThreads)
+                    .register(registry);
+            FunctionTimer.builder("talentflow.password.hashing", passwordEncoder,
+                            PooledPasswordEncoder::getHashes, PooledPasswordEncoder::getTotalHashNanos, TimeUnit.NANOSECONDS)
+                    .description("BCrypt encode and match time on the hashing pool")
+                    .register(registry);
+            FunctionCounter.builder("talentflow.password.hashing.refused", passwordEncoder, PooledPasswordEncoder::getRejected)
+                    .tag("reason", "queue-full")
+                    .register(registry);
+            FunctionCounter.builder("talentflow.password.hashing.refused", passwordEncoder, PooledPasswordEncoder::getTimedOut)
+                    .tag("reason", "timeout")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder jobExpiryMetrics(JobExpiryService jobExpiryService) {
+        return registry -> {
+            FunctionCounter.builder("talentflow.jobs.expired", jobExpiryService, JobExpiryService::getClosed)
+                    .description("Open jobs closed after their expiry date")
+                    .register(registry);
+            FunctionCounter.builder("talentflow.jobs.expiry.rejected", jobExpiryService, JobExpiryService::getRejected)
+                    .description("Applications rejected because their job expired")
+                    .register(registry);
+            FunctionTimer.builder("talentflow.jobs.expiry.run", jobExpiryService,
+                            JobExpiryService::getRuns, JobExpiryService::getTotalRunNanos, TimeUnit.NANOSECONDS)
+                    .description("Duration of job expiry runs on this node")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder rateLimitMetrics(RateLimiter rateLimiter) {
+        return registry -> {
+            for (RateLimiter.Group group : rateLimiter.getGroups()) {
+                FunctionCounter.builder("talentflow.rate.limit.throttled", group, RateLimiter.Group::getThrottled)
+                        .tag("group", group.getName())
+                        .description("Requests answered with 429")
+                        .register(registry);
+                Gauge.builder("talentflow.rate.limit.keys", group, RateLimiter.Group::getTrackedKeys)
+                        .tag("group", group.getName())
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource) {
+        return registry -> replicaRoutingDataSource.ifAvailable(routing -> {
+            FunctionCounter.builder("talentflow.datasource.routed", routing, ReplicaRoutingDataSource::getPrimaryConnections)
+                    .tag("target", "primary")
+                    .tag("reason", "write")
+                    .description("Connections handed out per pool and why")
+                    .register(registry);
+            FunctionCounter.builder("talentflow.datasource.routed", routing, ReplicaRoutingDataSource::getStickyReads)
+                    .tag("target", "primary")
+                    .tag("reason", "read-your-writes")
+                    .register(registry);
+            FunctionCounter.builder("talentflow.datasource.routed", routing, ReplicaRoutingDataSource::getFallbackReads)
+                    .tag("target", "primary")
+                    .tag("reason", "no-replica")
+                    .register(registry);
+            for (ReplicaRoutingDataSource.Replica replica : routing.getReplicas()) {
+                FunctionCounter.builder("talentflow.datasource.routed", replica, ReplicaRoutingDataSource.Replica::getConnections)
+                        .tag("target", replica.getName())
+                        .tag("reason", "read-only")
+                        .register(registry);
+                Gauge.builder("talentflow.datasource.replica.lag", replica, ReplicaRoutingDataSource.Replica::getLagMillis)
+                        .tag("replica", replica.getName())
+                        .baseUnit("milliseconds")
+                        .description("Age of the replicated heartbeat, -1 before the first one was read")
+                        .register(registry);
+            }
+        });
+    }
+
+    // Per-region hits, misses and puts are Hibernate's hibernate.second.level.cache.* meters
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(SecondLevelCache secondLevelCache) {
+        return registry -> secondLevelCache.getRegions().forEach((region, cache) -> {
+            Gauge.builder("talentflow.second.level.cache.size", cache, Cache::estimatedSize)
+                    .tag("region", region)
+                    .description("Entries held by a Hibernate second-level cache region")
+                    .register(registry);
+            FunctionCounter.builder("talentflow.second.level.cache.evictions", cache, c -> c.stats().evictionCount())
+                    .tag("region", region)
+                    .register(registry);
+        });
+    }
+}
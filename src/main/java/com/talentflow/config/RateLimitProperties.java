@@ -0,0 +1,38 @@
+package com.talentflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Route groups for {@code RateLimitFilter}. A request counts against the first group whose methods
+ * and paths match it, keyed by the authenticated user or else by the client address.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Per group; keys whose bucket has refilled are dropped first
+    private int maxKeys = 100000;
+
+    private List<Group> groups = new ArrayList<>();
+
+    @Data
+    public static class Group {
+        private String name;
+        // Empty means any method
+        private List<String> methods = new ArrayList<>();
+        private List<String> paths = new ArrayList<>();
+        private int requests;
+        private Duration period = Duration.ofSeconds(1);
+        // Bucket size: how many requests may arrive at once before the steady rate applies
+        private int burst = 1;
+    }
+}
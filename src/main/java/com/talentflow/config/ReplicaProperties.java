@@ -0,0 +1,37 @@
+package com.talentflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas for {@code ReplicaRoutingDataSource}. Read-only transactions go to a replica whose
+ * measured lag is within maxLag, everything else to spring.datasource.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "replicas")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    private List<Instance> instances = new ArrayList<>();
+
+    // Replicas further behind than this are skipped until they catch up
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // How long a user's reads stay on the primary after a transaction of theirs committed
+    private Duration readYourWrites = Duration.ofSeconds(5);
+
+    @Data
+    public static class Instance {
+        private String url;
+        // Default to spring.datasource's credentials
+        private String username;
+        private String password;
+    }
+}
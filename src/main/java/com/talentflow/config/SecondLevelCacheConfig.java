@@ -0,0 +1,65 @@
+package com.talentflow.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+
+/**
+ * Creates the second-level cache regions up front, each bounded by its configured size and expiring
+ * after second-level-cache.time-to-live (or its entry in region-time-to-live), and hands the cache
+ * manager to Hibernate. Entity regions are
+ * READ_WRITE, so a committed update replaces the cached entry on this node.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "second-level-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecondLevelCacheConfig.class);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+
+        properties.getRegions().forEach((region, maxSize) -> cacheManager.createCache(region,
+                new CaffeineConfiguration<>()
+                        .setStoreByValue(false)
+                        .setNativeStatisticsEnabled(true)
+                        .setMaximumSize(OptionalLong.of(maxSize))
+                        .setExpireAfterWrite(OptionalLong.of(properties.getRegionTimeToLive()
+                                .getOrDefault(region, properties.getTimeToLive()).toNanos()))));
+
+        // Query results are checked against these timestamps; losing one would let a stale result through
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                new CaffeineConfiguration<>()
+                        .setStoreByValue(false)
+                        .setNativeStatisticsEnabled(true));
+
+        logger.info("Second-level cache regions {}, time to live {}, per region {}", properties.getRegions(),
+                properties.getTimeToLive(), properties.getRegionTimeToLive());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheSettings(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
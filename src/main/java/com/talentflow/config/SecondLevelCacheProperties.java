@@ -0,0 +1,30 @@
+package com.talentflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate second-level cache regions, kept in Caffeine through JCache. Every region named by an
+ * entity, collection or query needs an entry in regions; Hibernate refuses to start otherwise.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "second-level-cache")
+public class SecondLevelCacheProperties {
+
+    private boolean enabled = true;
+
+    // Bounds how long a write made by another node, or a row read from a lagging replica, can be served
+    private Duration timeToLive = Duration.ofMinutes(10);
+
+    // Region name to a time to live replacing timeToLive for that region
+    private Map<String, Duration> regionTimeToLive = new LinkedHashMap<>();
+
+    // Region name to maximum number of entries
+    private Map<String, Long> regions = new LinkedHashMap<>();
+}
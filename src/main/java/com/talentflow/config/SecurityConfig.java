@@ -2,7 +2,10 @@ package com.talentflow.config;
 
 import com.talentflow.security.CustomUserDetailsService;
 import com.talentflow.security.JwtAuthenticationFilter;
+import com.talentflow.security.PooledPasswordEncoder;
+import com.talentflow.security.RateLimitFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -12,12 +15,12 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -26,14 +29,31 @@ public class SecurityConfig {
     @Autowired
     private CustomUserDetailsService customUserDetailsService;
 
+    @Value("${password.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${password.hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${password.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    @Value("${password.hashing.timeout:5s}")
+    private Duration hashingTimeout;
+
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
         return new JwtAuthenticationFilter();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter();
+    }
+
+    @Bean
+    public PooledPasswordEncoder passwordEncoder() {
+        return new PooledPasswordEncoder(bcryptStrength, hashingThreads, hashingQueueCapacity, hashingTimeout);
     }
 
     @Bean
@@ -41,6 +61,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        // Rehashes on login when the stored hash was made with another BCrypt strength
+        authProvider.setUserDetailsPasswordService(customUserDetailsService);
         return authProvider;
     }
 
@@ -55,20 +77,26 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/api/auth/logout").authenticated()
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/swagger-ui/index.html", "/v3/api-docs/**", "/api-docs/**", "/webjars/**", "/swagger-resources/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/jobs/deletions/**").hasAnyRole("RECRUITER", "ADMIN")
                 .requestMatchers(HttpMethod.GET, "/api/jobs/**").permitAll() // Allow viewing jobs without auth
-                .requestMatchers(HttpMethod.POST, "/api/jobs").hasAnyRole("RECRUITER", "ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/jobs", "/api/jobs/bulk").hasAnyRole("RECRUITER", "ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/api/jobs/**").hasAnyRole("RECRUITER", "ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/api/jobs/**").hasAnyRole("RECRUITER", "ADMIN")
                 .requestMatchers("/api/applications/apply/**").hasRole("CANDIDATE")
                 .requestMatchers("/api/applications/my").hasRole("CANDIDATE")
                 .requestMatchers("/api/applications/job/**").hasAnyRole("RECRUITER", "ADMIN")
                 .requestMatchers("/api/applications/*/status").hasAnyRole("RECRUITER", "ADMIN")
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .authenticationProvider(authenticationProvider())
-            .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter(), JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,194 @@
+package com.talentflow.controller;
+
+import com.talentflow.datasource.ReplicaRoutingDataSource;
+import com.talentflow.dto.response.ApiResponse;
+import com.talentflow.dto.response.CacheStatsResponse;
+import com.talentflow.dto.response.DataSourceRoutingStatsResponse;
+import com.talentflow.dto.response.JobArchiveStatsResponse;
+import com.talentflow.dto.response.OutboxStatsResponse;
+import com.talentflow.dto.response.PasswordHashingStatsResponse;
+import com.talentflow.dto.response.RateLimitStatsResponse;
+import com.talentflow.dto.response.SearchIndexStatsResponse;
+import com.talentflow.security.PooledPasswordEncoder;
+import com.talentflow.security.RateLimiter;
+import com.talentflow.security.TokenCache;
+import com.talentflow.service.JobArchiver;
+import com.talentflow.service.JobCache;
+import com.talentflow.service.SecondLevelCache;
+import com.talentflow.service.outbox.OutboxDispatcher;
+import com.talentflow.service.search.FullTextIndex;
+import com.talentflow.service.search.JobSearchIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin")
+@Tag(name = "Admin", description = "APIs for operational insight and maintenance")
+public class AdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+
+    @Autowired
+    private TokenCache tokenCache;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Autowired
+    private SecondLevelCache secondLevelCache;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private FullTextIndex fullTextIndex;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private JobArchiver jobArchiver;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private PooledPasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource;
+
+    @GetMapping("/token-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Token cache statistics", description = "Returns hit, miss and eviction counters of the verified-token cache", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<CacheStatsResponse>> getTokenCacheStats() {
+        CacheStatsResponse stats = CacheStatsResponse.of(tokenCache.size(), tokenCache.getHits(),
+                tokenCache.getMisses(), tokenCache.getEvictions());
+        return ResponseEntity.ok(ApiResponse.success("Token cache statistics retrieved successfully", stats));
+    }
+
+    @DeleteMapping("/token-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Clear token cache", description = "Drops every cached token so the next request re-verifies it", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<Object>> clearTokenCache() {
+        logger.info("Clearing token cache");
+        tokenCache.clear();
+        return ResponseEntity.ok(ApiResponse.success("Token cache cleared successfully"));
+    }
+
+    @GetMapping("/job-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Job cache statistics", description = "Returns hit ratio and size of the job and job query caches", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<Map<String, CacheStatsResponse>>> getJobCacheStats() {
+        Map<String, CacheStatsResponse> stats = new LinkedHashMap<>();
+        stats.put("jobs", jobCache.getJobStats());
+        stats.put("queries", jobCache.getQueryStats());
+        return ResponseEntity.ok(ApiResponse.success("Job cache statistics retrieved successfully", stats));
+    }
+
+    @DeleteMapping("/job-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Clear job cache", description = "Drops every cached job and query page", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<Object>> clearJobCache() {
+        logger.info("Clearing job cache");
+        jobCache.clear();
+        return ResponseEntity.ok(ApiResponse.success("Job cache cleared successfully"));
+    }
+
+    @GetMapping("/second-level-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Second-level cache statistics", description = "Returns hit ratio, size and evictions of every Hibernate second-level cache region", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<Map<String, CacheStatsResponse>>> getSecondLevelCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success("Second-level cache statistics retrieved successfully", secondLevelCache.getStats()));
+    }
+
+    @DeleteMapping("/second-level-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Clear second-level cache", description = "Drops every cached entity, collection and query result, e.g. after rows were changed outside the application", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<Object>> clearSecondLevelCache() {
+        logger.info("Clearing second-level cache");
+        secondLevelCache.clear();
+        return ResponseEntity.ok(ApiResponse.success("Second-level cache cleared successfully"));
+    }
+
+    @GetMapping("/outbox")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Outbox statistics", description = "Returns backlog, delivery throughput and lag of application event delivery", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<OutboxStatsResponse>> getOutboxStats() {
+        return ResponseEntity.ok(ApiResponse.success("Outbox statistics retrieved successfully", outboxDispatcher.getStats()));
+    }
+
+    @GetMapping("/job-archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Job archive statistics", description = "Returns archived job and application counts and the outcome of the last archive run", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<JobArchiveStatsResponse>> getJobArchiveStats() {
+        return ResponseEntity.ok(ApiResponse.success("Job archive statistics retrieved successfully", jobArchiver.getStats()));
+    }
+
+    @PostMapping("/job-archive/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Archive closed jobs", description = "Moves jobs closed for longer than jobs.archive.closed-for into the archive tables now", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<JobArchiveStatsResponse>> archiveClosedJobs() {
+        logger.info("Archiving closed jobs");
+        return ResponseEntity.ok(ApiResponse.success("Closed jobs archived successfully", jobArchiver.run()));
+    }
+
+    @GetMapping("/rate-limits")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rate limit statistics", description = "Returns tracked keys and throttled requests per rate limit group", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<List<RateLimitStatsResponse>>> getRateLimitStats() {
+        return ResponseEntity.ok(ApiResponse.success("Rate limit statistics retrieved successfully", rateLimiter.getStats()));
+    }
+
+    @GetMapping("/password-hashing")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Password hashing statistics", description = "Returns queue depth, rejections and BCrypt latency of the password hashing pool", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<PasswordHashingStatsResponse>> getPasswordHashingStats() {
+        return ResponseEntity.ok(ApiResponse.success("Password hashing statistics retrieved successfully", passwordEncoder.getStats()));
+    }
+
+    @GetMapping("/datasource-routing")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Replica routing statistics", description = "Returns replica lag and availability and how read-only transactions were routed", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<DataSourceRoutingStatsResponse>> getDataSourceRoutingStats() {
+        ReplicaRoutingDataSource routing = replicaRoutingDataSource.getIfAvailable();
+        DataSourceRoutingStatsResponse stats = routing != null ? routing.getStats() : new DataSourceRoutingStatsResponse();
+        return ResponseEntity.ok(ApiResponse.success("Replica routing statistics retrieved successfully", stats));
+    }
+
+    @PostMapping("/search-index/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild search indexes", description = "Reloads the job filter index and rewrites the full-text index segment from the database", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<SearchIndexStatsResponse>> rebuildSearchIndexes() {
+        logger.info("Rebuilding search indexes");
+        jobSearchIndex.rebuild();
+        fullTextIndex.rebuild();
+        SearchIndexStatsResponse stats = new SearchIndexStatsResponse(jobSearchIndex.size(), fullTextIndex.size());
+        return ResponseEntity.ok(ApiResponse.success("Search indexes rebuilt successfully", stats));
+    }
+}
@@ -1,22 +1,36 @@
 package com.talentflow.controller;
 
 import com.talentflow.dto.request.ApplicationRequest;
+import com.talentflow.dto.request.BulkUpdateApplicationStatusRequest;
 import com.talentflow.dto.request.UpdateApplicationStatusRequest;
 import com.talentflow.dto.response.ApiResponse;
+import com.talentflow.dto.response.ApplicationFunnelResponse;
 import com.talentflow.dto.response.ApplicationResponse;
+import com.talentflow.dto.response.BulkStatusUpdateResponse;
+import com.talentflow.enums.ApplicationStatus;
+import com.talentflow.enums.ExportFormat;
+import com.talentflow.service.ApplicationExportService;
 import com.talentflow.service.ApplicationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -29,6 +43,9 @@ public class ApplicationController {
     @Autowired
     private ApplicationService applicationService;
 
+    @Autowired
+    private ApplicationExportService applicationExportService;
+
     @PostMapping("/apply/{jobId}")
     @PreAuthorize("hasRole('CANDIDATE')")
     @Operation(summary = "Apply for a job", description = "Candidates can apply for open jobs", 
@@ -53,13 +70,52 @@ public class ApplicationController {
 
     @GetMapping("/job/{jobId}")
     @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
-    @Operation(summary = "Get applications for a job", description = "Recruiters can view applications for their jobs", 
+    @Operation(summary = "Get applications for a job", description = "Recruiters can view applications for their jobs, paged and optionally filtered by status", 
                security = @SecurityRequirement(name = "bearerAuth"))
-    public ResponseEntity<ApiResponse<List<ApplicationResponse>>> getApplicationsByJob(@PathVariable Long jobId) {
-        List<ApplicationResponse> applications = applicationService.getApplicationsByJob(jobId);
+    public ResponseEntity<ApiResponse<Page<ApplicationResponse>>> getApplicationsByJob(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "DESC") String sortDir) {
+        Sort.Direction direction = sortDir.equalsIgnoreCase("ASC") ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, "appliedAt", "id"));
+        Page<ApplicationResponse> applications = applicationService.getApplicationsByJob(jobId, status, pageable);
         return ResponseEntity.ok(ApiResponse.success("Applications retrieved successfully", applications));
     }
 
+    @GetMapping("/job/{jobId}/funnel")
+    @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
+    @Operation(summary = "Get application counts for a job", description = "Returns the number of applications of a job per status, served from in-memory counters", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<ApplicationFunnelResponse>> getApplicationFunnel(@PathVariable Long jobId) {
+        ApplicationFunnelResponse funnel = applicationService.getApplicationFunnel(jobId);
+        return ResponseEntity.ok(ApiResponse.success("Application counts retrieved successfully", funnel));
+    }
+
+    @GetMapping("/job/{jobId}/export")
+    @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
+    @Operation(summary = "Export applications for a job", description = "Streams all applications of a job as NDJSON or CSV", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public void exportApplicationsByJob(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+        // Checked before anything is written, so a denied request still gets a regular error response
+        applicationService.checkJobAccess(jobId);
+
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"applications-job-" + jobId + "." + format.getExtension() + "\"");
+        try {
+            long rows = applicationExportService.exportApplicationsByJob(jobId, format, response.getOutputStream());
+            logger.info("Exported {} applications for job id: {}", rows, jobId);
+        } catch (IOException ex) {
+            logger.warn("Export of applications for job id {} aborted: {}", jobId, ex.getMessage());
+        }
+    }
+
     @PutMapping("/{applicationId}/status")
     @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
     @Operation(summary = "Update application status", description = "Recruiters can update application status", 
@@ -71,5 +127,15 @@ public class ApplicationController {
         ApplicationResponse response = applicationService.updateApplicationStatus(applicationId, request);
         return ResponseEntity.ok(ApiResponse.success("Application status updated successfully", response));
     }
-}
 
+    @PutMapping("/bulk/status")
+    @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
+    @Operation(summary = "Bulk update application status", description = "Moves many applications, by id or by job and current status, to a new status", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<BulkStatusUpdateResponse>> bulkUpdateApplicationStatus(
+            @Valid @RequestBody BulkUpdateApplicationStatusRequest request) {
+        logger.info("Bulk updating application status to {}", request.getStatus());
+        BulkStatusUpdateResponse response = applicationService.bulkUpdateApplicationStatus(request);
+        return ResponseEntity.ok(ApiResponse.success("Application statuses updated successfully", response));
+    }
+}
@@ -6,6 +6,7 @@ import com.talentflow.dto.response.ApiResponse;
 import com.talentflow.dto.response.AuthResponse;
 import com.talentflow.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -41,5 +42,12 @@ public class AuthController {
         AuthResponse response = authService.login(request);
         return ResponseEntity.ok(ApiResponse.success("Login successful", response));
     }
-}
 
+    @PostMapping("/logout")
+    @Operation(summary = "Logout user", description = "Revokes every token issued to the logged-in user", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<Object>> logout() {
+        authService.logout();
+        return ResponseEntity.ok(ApiResponse.success("Logout successful"));
+    }
+}
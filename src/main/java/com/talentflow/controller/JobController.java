@@ -2,12 +2,23 @@ package com.talentflow.controller;
 
 import com.talentflow.dto.request.JobRequest;
 import com.talentflow.dto.response.ApiResponse;
+import com.talentflow.dto.response.BulkImportResponse;
+import com.talentflow.dto.response.CursorPage;
+import com.talentflow.dto.response.JobDeletionResponse;
 import com.talentflow.dto.response.JobResponse;
+import com.talentflow.enums.EmploymentType;
 import com.talentflow.enums.JobStatus;
+import com.talentflow.enums.SkillMatch;
+import com.talentflow.exception.ValidationException;
+import com.talentflow.service.ContentVersion;
+import com.talentflow.service.JobDeletionService;
+import com.talentflow.service.JobImportService;
 import com.talentflow.service.JobService;
+import com.talentflow.service.VersionedPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,11 +27,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
 @RestController
 @RequestMapping("/api/jobs")
 @Tag(name = "Jobs", description = "APIs for job management")
@@ -28,9 +48,21 @@ public class JobController {
 
     private static final Logger logger = LoggerFactory.getLogger(JobController.class);
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    // ETag prefixes; list ETags share the listing version, the URL tells the pages apart
+    private static final String LISTING_ETAG = "jobs";
+    private static final String JOB_ETAG = "job-";
+
     @Autowired
     private JobService jobService;
 
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Autowired
+    private JobDeletionService jobDeletionService;
+
     @PostMapping
     @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
     @Operation(summary = "Create a new job", description = "Only RECRUITER and ADMIN can create jobs", 
@@ -42,6 +74,26 @@ public class JobController {
                 .body(ApiResponse.success("Job created successfully", response));
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
+    @Operation(summary = "Bulk import jobs", description = "Creates many jobs from a JSON array and reports a result per item", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<BulkImportResponse>> importJobs(@RequestBody List<JobRequest> requests) {
+        logger.info("Bulk importing {} jobs", requests.size());
+        BulkImportResponse response = jobImportService.importJobs(requests);
+        return ResponseEntity.ok(ApiResponse.success("Bulk import completed", response));
+    }
+
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
+    @Operation(summary = "Bulk import jobs from NDJSON", description = "Creates jobs from a newline-delimited JSON stream, one job per line", 
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<BulkImportResponse>> importJobsNdjson(HttpServletRequest request) throws IOException {
+        logger.info("Bulk importing jobs from NDJSON stream");
+        BulkImportResponse response = jobImportService.importJobsNdjson(request.getInputStream());
+        return ResponseEntity.ok(ApiResponse.success("Bulk import completed", response));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
     @Operation(summary = "Update a job", description = "Only the job poster or ADMIN can update", 
@@ -56,12 +108,26 @@ public class JobController {
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
-    @Operation(summary = "Delete a job", description = "Only the job poster or ADMIN can delete", 
+    @Operation(summary = "Delete a job", description = "Only the job poster or ADMIN can delete; background=true returns at once with a task to poll", 
                security = @SecurityRequirement(name = "bearerAuth"))
-    public ResponseEntity<ApiResponse<Object>> deleteJob(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<JobDeletionResponse>> deleteJob(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean background) {
         logger.info("Deleting job with id: {}", id);
-        jobService.deleteJob(id);
-        return ResponseEntity.ok(ApiResponse.success("Job deleted successfully"));
+        JobDeletionResponse deletion = jobDeletionService.deleteJob(id, background);
+        if (background) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("Job deletion started", deletion));
+        }
+        return ResponseEntity.ok(ApiResponse.success("Job deleted successfully", deletion));
+    }
+
+    @GetMapping("/deletions/{taskId}")
+    @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
+    @Operation(summary = "Get job deletion progress", description = "Returns the progress of a background job deletion",
+               security = @SecurityRequirement(name = "bearerAuth"))
+    public ResponseEntity<ApiResponse<JobDeletionResponse>> getDeletion(@PathVariable String taskId) {
+        return ResponseEntity.ok(ApiResponse.success("Job deletion retrieved successfully", jobDeletionService.getDeletion(taskId)));
     }
 
     @GetMapping
@@ -70,34 +136,147 @@ public class JobController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String sortDir) {
+            @RequestParam(defaultValue = "DESC") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeCounts,
+            HttpServletRequest request) {
+        // Counts change without the listing version moving, so those responses carry no validators
+        ResponseEntity<ApiResponse<Page<JobResponse>>> notModified = includeCounts ? null
+                : checkNotModified(request, jobService::getListingVersion, LISTING_ETAG);
+        if (notModified != null) {
+            return notModified;
+        }
         Sort sort = sortDir.equalsIgnoreCase("ASC") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<JobResponse> jobs = jobService.getAllJobs(pageable);
+        VersionedPage jobs = jobService.getAllJobs(pageable);
+        if (includeCounts) {
+            return ResponseEntity.ok(ApiResponse.success("Jobs retrieved successfully", jobService.withApplicationCounts(jobs.page())));
+        }
+        return withValidators(jobs.version(), LISTING_ETAG)
+                .body(ApiResponse.success("Jobs retrieved successfully", jobs.page()));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Get all jobs by cursor", description = "Returns jobs newest first using keyset pagination; pass nextCursor to get the following page")
+    public ResponseEntity<ApiResponse<CursorPage<JobResponse>>> getAllJobsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        CursorPage<JobResponse> jobs = jobService.getAllJobs(cursor, validatePageSize(size), withTotal);
         return ResponseEntity.ok(ApiResponse.success("Jobs retrieved successfully", jobs));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get job by ID", description = "Returns job details by ID")
-    public ResponseEntity<ApiResponse<JobResponse>> getJobById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<JobResponse>> getJobById(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean includeCounts,
+            HttpServletRequest request) {
+        if (includeCounts) {
+            JobResponse job = jobService.withApplicationCounts(jobService.getJobById(id));
+            return ResponseEntity.ok(ApiResponse.success("Job retrieved successfully", job));
+        }
+        ResponseEntity<ApiResponse<JobResponse>> notModified =
+                checkNotModified(request, () -> jobService.getJobVersion(id), JOB_ETAG + id);
+        if (notModified != null) {
+            return notModified;
+        }
         JobResponse job = jobService.getJobById(id);
-        return ResponseEntity.ok(ApiResponse.success("Job retrieved successfully", job));
+        return withValidators(new ContentVersion(job.getVersion(), job.getUpdatedAt()), JOB_ETAG + id)
+                .body(ApiResponse.success("Job retrieved successfully", job));
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search jobs", description = "Search jobs by skill, location, and status with pagination")
+    @Operation(summary = "Search jobs", description = "Search jobs by skills, location, status and employment type with pagination")
     public ResponseEntity<ApiResponse<Page<JobResponse>>> searchJobs(
             @RequestParam(required = false) String skill,
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(defaultValue = "ALL") SkillMatch skillMatch,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) JobStatus status,
+            @RequestParam(required = false) EmploymentType employmentType,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String sortDir) {
+            @RequestParam(defaultValue = "DESC") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeCounts,
+            HttpServletRequest request) {
+        ResponseEntity<ApiResponse<Page<JobResponse>>> notModified = includeCounts ? null
+                : checkNotModified(request, jobService::getListingVersion, LISTING_ETAG);
+        if (notModified != null) {
+            return notModified;
+        }
         Sort sort = sortDir.equalsIgnoreCase("ASC") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<JobResponse> jobs = jobService.searchJobs(skill, location, status, pageable);
+        List<String> requestedSkills = new ArrayList<>();
+        if (skill != null) {
+            requestedSkills.add(skill);
+        }
+        if (skills != null) {
+            requestedSkills.addAll(skills);
+        }
+        VersionedPage jobs = jobService.searchJobs(requestedSkills, skillMatch, location, status, employmentType, pageable);
+        if (includeCounts) {
+            return ResponseEntity.ok(ApiResponse.success("Jobs retrieved successfully", jobService.withApplicationCounts(jobs.page())));
+        }
+        return withValidators(jobs.version(), LISTING_ETAG)
+                .body(ApiResponse.success("Jobs retrieved successfully", jobs.page()));
+    }
+
+    @GetMapping("/search/text")
+    @Operation(summary = "Full-text job search", description = "Searches job titles and descriptions, best matches first; the last word also matches as a prefix")
+    public ResponseEntity<ApiResponse<Page<JobResponse>>> searchJobsByText(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        if (!StringUtils.hasText(q)) {
+            throw new ValidationException("Search text must not be empty");
+        }
+        Page<JobResponse> jobs = jobService.searchJobsByText(q, PageRequest.of(page, size));
         return ResponseEntity.ok(ApiResponse.success("Jobs retrieved successfully", jobs));
     }
-}
 
+    @GetMapping("/search/cursor")
+    @Operation(summary = "Search jobs by cursor", description = "Search jobs by skill, location, and status newest first using keyset pagination")
+    public ResponseEntity<ApiResponse<CursorPage<JobResponse>>> searchJobsByCursor(
+            @RequestParam(required = false) String skill,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) JobStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        CursorPage<JobResponse> jobs = jobService.searchJobs(skill, location, status, cursor, validatePageSize(size), withTotal);
+        return ResponseEntity.ok(ApiResponse.success("Jobs retrieved successfully", jobs));
+    }
+
+    // Conditional requests are answered from the version alone, before any job is loaded or serialized
+    private <T> ResponseEntity<ApiResponse<T>> checkNotModified(HttpServletRequest request,
+                                                                Supplier<ContentVersion> currentVersion, String resource) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null && request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) == null) {
+            return null;
+        }
+        ContentVersion version = currentVersion.get();
+        if (!new ServletWebRequest(request).checkNotModified(version.etag(resource), version.lastModified())) {
+            return null;
+        }
+        return withValidators(version, resource, ResponseEntity.status(HttpStatus.NOT_MODIFIED)).build();
+    }
+
+    private ResponseEntity.BodyBuilder withValidators(ContentVersion version, String resource) {
+        return withValidators(version, resource, ResponseEntity.ok());
+    }
+
+    private ResponseEntity.BodyBuilder withValidators(ContentVersion version, String resource, ResponseEntity.BodyBuilder builder) {
+        builder.eTag(version.etag(resource));
+        if (version.lastModified() >= 0) {
+            builder.lastModified(version.lastModified());
+        }
+        return builder;
+    }
+
+    private int validatePageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,249 @@
+package com.talentflow.datasource;
+
+import com.talentflow.dto.response.DataSourceRoutingStatsResponse;
+import com.talentflow.dto.response.ReplicaStatusResponse;
+import com.talentflow.entity.ReplicaHeartbeat;
+import com.talentflow.security.UserPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections of read-only transactions to a replica and everything else to the primary. It
+ * sits behind a LazyConnectionDataSourceProxy, so the choice is made at the first statement, once
+ * the transaction's read-only flag is known. A read-only transaction stays on the primary when no
+ * replica is within the lag bound, or when the current user committed a write within the
+ * read-your-writes window; {@link WriteTrackingStatementInspector} reports which transactions wrote. Lag is measured by writing a heartbeat to the primary and reading it
+ * back from every replica.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final String PRIMARY = "primary";
+
+    private final JdbcTemplate primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final long readYourWritesNanos;
+    private final Map<Long, Long> recentWriters = new ConcurrentHashMap<>();
+    // Bound to a transaction once its write is remembered, so the commit is only stamped once
+    private final Object writeMarker = new Object();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final LongAdder primaryConnections = new LongAdder();
+    private final LongAdder stickyReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    Duration maxLag, Duration readYourWrites) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = replicas.entrySet().stream().map(entry -> new Replica(entry.getKey(), entry.getValue())).toList();
+        this.maxLagMillis = maxLag.toMillis();
+        this.readYourWritesNanos = readYourWrites.toNanos();
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryConnections.increment();
+            return PRIMARY;
+        }
+
+        Long userId = currentUserId();
+        if (userId != null) {
+            Long wroteAt = recentWriters.get(userId);
+            if (wroteAt != null && System.nanoTime() - wroteAt < readYourWritesNanos) {
+                stickyReads.increment();
+                return PRIMARY;
+            }
+        }
+
+        Replica replica = pickReplica();
+        if (replica == null) {
+            fallbackReads.increment();
+            return PRIMARY;
+        }
+        replica.connections.increment();
+        return replica.name;
+    }
+
+    // Stamped at commit, so the window covers the time the write needs to reach the replicas
+    void rememberWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(writeMarker)) {
+            return;
+        }
+        Long userId = currentUserId();
+        if (userId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(writeMarker, userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, System.nanoTime());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(writeMarker);
+            }
+        });
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+            return userPrincipal.getId();
+        }
+        return null;
+    }
+
+    private Replica pickReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable(maxLagMillis)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${replicas.lag-probe-ms:1000}")
+    public void probeLag() {
+        long now = System.currentTimeMillis();
+        try {
+            if (primary.update("UPDATE replica_heartbeat SET beat_millis = ? WHERE id = ?", now, ReplicaHeartbeat.ID) == 0) {
+                primary.update("INSERT INTO replica_heartbeat (id, beat_millis) VALUES (?, ?)", ReplicaHeartbeat.ID, now);
+            }
+        } catch (DataAccessException ex) {
+            // Replicas keep their last known lag, which grows on its own once the heartbeat stops
+            logger.warn("Could not write the replica heartbeat: {}", ex.getMessage());
+        }
+
+        for (Replica replica : replicas) {
+            replica.probe(maxLagMillis);
+        }
+
+        long cutoff = System.nanoTime() - readYourWritesNanos;
+        recentWriters.values().removeIf(wroteAt -> wroteAt - cutoff < 0);
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public long getPrimaryConnections() {
+        return primaryConnections.sum();
+    }
+
+    public long getStickyReads() {
+        return stickyReads.sum();
+    }
+
+    public long getFallbackReads() {
+        return fallbackReads.sum();
+    }
+
+    public DataSourceRoutingStatsResponse getStats() {
+        DataSourceRoutingStatsResponse stats = new DataSourceRoutingStatsResponse();
+        stats.setReplicasEnabled(true);
+        stats.setMaxLagMs(maxLagMillis);
+        stats.setReadYourWritesMs(readYourWritesNanos / 1_000_000);
+        stats.setPrimaryConnections(getPrimaryConnections());
+        stats.setStickyReads(getStickyReads());
+        stats.setFallbackReads(getFallbackReads());
+        stats.setRecentWriters(recentWriters.size());
+        stats.setReplicas(replicas.stream()
+                .map(replica -> new ReplicaStatusResponse(replica.name, replica.isAvailable(maxLagMillis),
+                        replica.lagMillis, replica.getConnections(), replica.lastError))
+                .toList());
+        return stats;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final LongAdder connections = new LongAdder();
+        // -1 until a heartbeat was read
+        private volatile long lagMillis = -1;
+        private volatile String lastError;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getLagMillis() {
+            return lagMillis;
+        }
+
+        public long getConnections() {
+            return connections.sum();
+        }
+
+        boolean isAvailable(long maxLagMillis) {
+            return lagMillis >= 0 && lagMillis <= maxLagMillis && lastError == null;
+        }
+
+        void probe(long maxLagMillis) {
+            boolean wasAvailable = isAvailable(maxLagMillis);
+            try {
+                List<Long> beats = jdbcTemplate.queryForList(
+                        "SELECT beat_millis FROM replica_heartbeat WHERE id = ?", Long.class, ReplicaHeartbeat.ID);
+                lagMillis = beats.isEmpty() ? -1 : Math.max(0, System.currentTimeMillis() - beats.get(0));
+                lastError = beats.isEmpty() ? "No heartbeat replicated yet" : null;
+            } catch (DataAccessException ex) {
+                lastError = ex.getMessage();
+            }
+
+            boolean available = isAvailable(maxLagMillis);
+            if (wasAvailable && !available) {
+                logger.warn("Replica {} taken out of rotation, lag {} ms: {}", name, lagMillis,
+                        lastError == null ? "over the limit" : lastError);
+            } else if (!wasAvailable && available) {
+                logger.info("Replica {} in rotation, lag {} ms", name, lagMillis);
+            }
+        }
+    }
+}
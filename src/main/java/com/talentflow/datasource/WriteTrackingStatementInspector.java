@@ -0,0 +1,38 @@
+package com.talentflow.datasource;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Tells the {@link ReplicaRoutingDataSource} when a transaction runs an INSERT, UPDATE or DELETE, so
+ * only transactions that changed rows keep their user's reads on the primary. Hibernate prepares
+ * flushed entity changes, bulk updates and native statements alike through the inspector. Every
+ * statement is passed on to the inspector it replaces.
+ */
+public class WriteTrackingStatementInspector implements StatementInspector {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final StatementInspector delegate;
+
+    public WriteTrackingStatementInspector(ReplicaRoutingDataSource routingDataSource, StatementInspector delegate) {
+        this.routingDataSource = routingDataSource;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (isWrite(sql)) {
+            routingDataSource.rememberWrite();
+        }
+        return delegate.inspect(sql);
+    }
+
+    private static boolean isWrite(String sql) {
+        String statement = sql.stripLeading();
+        return startsWith(statement, "insert") || startsWith(statement, "update")
+                || startsWith(statement, "delete") || startsWith(statement, "merge");
+    }
+
+    private static boolean startsWith(String statement, String keyword) {
+        return statement.regionMatches(true, 0, keyword, 0, keyword.length());
+    }
+}
@@ -0,0 +1,23 @@
+package com.talentflow.dto.request;
+
+import com.talentflow.enums.ApplicationStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkUpdateApplicationStatusRequest {
+
+    // Either explicit application ids, or a job id (optionally narrowed by currentStatus)
+    @Size(max = 10000, message = "At most 10000 application ids can be updated at once")
+    private List<Long> applicationIds;
+
+    private Long jobId;
+
+    private ApplicationStatus currentStatus;
+
+    @NotNull(message = "Status is required")
+    private ApplicationStatus status;
+}
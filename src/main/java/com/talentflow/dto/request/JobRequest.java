@@ -1,12 +1,14 @@
 package com.talentflow.dto.request;
 
 import com.talentflow.enums.EmploymentType;
+import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -31,5 +33,9 @@ public class JobRequest {
 
     @NotBlank(message = "Experience level is required")
     private String experienceLevel;
+
+    // Optional; new jobs default to jobs.expiry.default-ttl, updates keep the current expiry
+    @Future(message = "Expiry must be in the future")
+    private LocalDateTime expiresAt;
 }
 
@@ -0,0 +1,17 @@
+package com.talentflow.dto.response;
+
+import com.talentflow.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationFunnelResponse {
+    private Long jobId;
+    private Map<ApplicationStatus, Long> counts;
+    private long total;
+}
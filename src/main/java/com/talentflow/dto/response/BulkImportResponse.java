@@ -0,0 +1,17 @@
+package com.talentflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponse {
+    private int total;
+    private int created;
+    private int failed;
+    private List<BulkJobResult> results;
+}
@@ -0,0 +1,25 @@
+package com.talentflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobResult {
+    private int index;
+    private boolean success;
+    private Long jobId;
+    private List<String> errors;
+
+    public static BulkJobResult created(int index, Long jobId) {
+        return new BulkJobResult(index, true, jobId, null);
+    }
+
+    public static BulkJobResult failed(int index, List<String> errors) {
+        return new BulkJobResult(index, false, null, errors);
+    }
+}
@@ -0,0 +1,16 @@
+package com.talentflow.dto.response;
+
+import com.talentflow.enums.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponse {
+    private ApplicationStatus status;
+    private int requested;
+    private int updated;
+    private int unchanged;
+}
@@ -0,0 +1,22 @@
+package com.talentflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private long size;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private double hitRatio;
+
+    public static CacheStatsResponse of(long size, long hits, long misses, long evictions) {
+        long requests = hits + misses;
+        double hitRatio = requests == 0 ? 0.0 : (double) hits / requests;
+        return new CacheStatsResponse(size, hits, misses, evictions, hitRatio);
+    }
+}
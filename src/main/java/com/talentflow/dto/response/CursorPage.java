@@ -0,0 +1,19 @@
+package com.talentflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    // Only filled when the client asks for it, counting is what makes deep OFFSET pages slow
+    private Long totalElements;
+}
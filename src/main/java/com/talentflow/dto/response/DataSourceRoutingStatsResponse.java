@@ -0,0 +1,21 @@
+package com.talentflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataSourceRoutingStatsResponse {
+    private boolean replicasEnabled;
+    private long maxLagMs;
+    private long readYourWritesMs;
+    private long primaryConnections;
+    private long stickyReads;
+    private long fallbackReads;
+    private long recentWriters;
+    private List<ReplicaStatusResponse> replicas;
+}
@@ -0,0 +1,20 @@
+package com.talentflow.dto.response;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+public class JobArchiveStatsResponse {
+    private boolean enabled;
+    private String closedFor;
+    private long archivedJobs;
+    private long archivedApplications;
+    private LocalDateTime lastRunAt;
+    private long lastRunJobs;
+    private long lastRunApplications;
+    private long lastRunMillis;
+    private String lastRunError;
+}
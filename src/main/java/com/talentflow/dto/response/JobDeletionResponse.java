@@ -0,0 +1,24 @@
+package com.talentflow.dto.response;
+
+import com.talentflow.enums.JobDeletionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobDeletionResponse {
+    private String taskId;
+    private Long jobId;
+    private JobDeletionStatus status;
+    // Moved to the archive tables instead of deleted
+    private boolean archived;
+    private long applicationsTotal;
+    private long applicationsRemoved;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -1,13 +1,17 @@
 package com.talentflow.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.talentflow.enums.ApplicationStatus;
 import com.talentflow.enums.EmploymentType;
 import com.talentflow.enums.JobStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.With;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -24,5 +28,13 @@ public class JobResponse {
     private String postedBy;
     private Long postedById;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime expiresAt;
+    private Long version;
+
+    // Only sent to the job's recruiter or an admin who asked for it; cached responses are copied, never changed
+    @With
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<ApplicationStatus, Long> applicationCounts;
 }
 
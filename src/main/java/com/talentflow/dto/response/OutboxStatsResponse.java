@@ -0,0 +1,23 @@
+package com.talentflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxStatsResponse {
+    private List<String> sinks;
+    private long pending;
+    private long failed;
+    private long delivered;
+    private double deliveredPerSecond;
+    private long coalesced;
+    private long failedBatches;
+    private long oldestPendingAgeMs;
+    private long lastLagMs;
+    private double averageLagMs;
+}
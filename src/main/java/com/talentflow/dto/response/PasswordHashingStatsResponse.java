@@ -0,0 +1,18 @@
+package com.talentflow.dto.response;
+
+import lombok.Data;
+
+@Data
+public class PasswordHashingStatsResponse {
+    private int threads;
+    private int activeThreads;
+    private int queueDepth;
+    private int queueCapacity;
+    private long completed;
+    private long rejected;
+    private long timedOut;
+    private double averageHashMs;
+    private double maxHashMs;
+    private double averageWaitMs;
+    private int bcryptStrength;
+}
@@ -0,0 +1,18 @@
+package com.talentflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitStatsResponse {
+    private String group;
+    private int requests;
+    private String period;
+    private int burst;
+    private long trackedKeys;
+    private long throttled;
+    private long evictions;
+}
@@ -0,0 +1,16 @@
+package com.talentflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplicaStatusResponse {
+    private String name;
+    private boolean available;
+    private long lagMs;
+    private long connections;
+    private String lastError;
+}
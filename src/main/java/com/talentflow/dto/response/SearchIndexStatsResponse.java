@@ -0,0 +1,13 @@
+package com.talentflow.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexStatsResponse {
+    private int indexedJobs;
+    private int fullTextDocuments;
+}
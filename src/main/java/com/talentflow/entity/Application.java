@@ -9,7 +9,13 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", uniqueConstraints = {
+    // Applying relies on this constraint rather than a prior lookup, see ApplicationService.applyForJob
+    @UniqueConstraint(name = "unique_application", columnNames = {"candidate_id", "job_id"})
+}, indexes = {
+    @Index(name = "idx_applications_job_applied_at", columnList = "job_id, applied_at"),
+    @Index(name = "idx_applications_job_status_applied_at", columnList = "job_id, status, applied_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -37,6 +43,12 @@ public class Application {
     @Column(name = "applied_at", nullable = false, updatable = false)
     private LocalDateTime appliedAt;
 
+    // Bulk status updates bump the version too, so a concurrent single update fails instead of overwriting.
+    // Left null until persisted so save() inserts instead of merging
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         if (this.appliedAt == null) {
@@ -0,0 +1,46 @@
+package com.talentflow.entity;
+
+import com.talentflow.enums.ApplicationStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * An application moved out of the applications table together with its job, see {@link ArchivedJob}.
+ */
+@Entity
+@Table(name = "applications_archive", indexes = {
+    @Index(name = "idx_applications_archive_job", columnList = "job_id"),
+    @Index(name = "idx_applications_archive_candidate", columnList = "candidate_id")
+})
+@Data
+@NoArgsConstructor
+public class ArchivedApplication {
+
+    @Id
+    private Long id;
+
+    @Column(name = "candidate_id", nullable = false)
+    private Long candidateId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ApplicationStatus status;
+
+    @Column(name = "resume_link", nullable = false)
+    private String resumeLink;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
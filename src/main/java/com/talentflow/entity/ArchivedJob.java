@@ -0,0 +1,69 @@
+package com.talentflow.entity;
+
+import com.talentflow.enums.EmploymentType;
+import com.talentflow.enums.JobStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A job moved out of the jobs table, with its id and columns unchanged. Rows are copied in with
+ * INSERT ... SELECT by JobArchiveRepository; the poster is kept as an id so users can be removed.
+ */
+@Entity
+@Table(name = "jobs_archive", indexes = {
+    @Index(name = "idx_jobs_archive_posted_by", columnList = "posted_by_id")
+})
+@Data
+@NoArgsConstructor
+public class ArchivedJob {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false)
+    private String location;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EmploymentType employmentType;
+
+    @ElementCollection
+    @CollectionTable(name = "job_skills_archive", joinColumns = @JoinColumn(name = "job_id"))
+    @Column(name = "skill")
+    private List<String> requiredSkills = new ArrayList<>();
+
+    @Column(nullable = false)
+    private String experienceLevel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobStatus status;
+
+    @Column(name = "posted_by_id", nullable = false)
+    private Long postedById;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
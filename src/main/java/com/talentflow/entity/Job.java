@@ -6,20 +6,36 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "jobs")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "jobs")
+@Table(name = "jobs", indexes = {
+    @Index(name = "idx_jobs_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_jobs_status_created_at_id", columnList = "status, created_at, id"),
+    @Index(name = "idx_jobs_status_expires_at", columnList = "status, expires_at"),
+    @Index(name = "idx_jobs_updated_at_id", columnList = "updated_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Job {
 
+    // Pooled table ids (instead of IDENTITY) let Hibernate batch job and skill inserts
+    public static final String ID_SEQUENCE = "jobs";
+    public static final int ID_ALLOCATION_SIZE = 100;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_id")
+    @TableGenerator(name = "job_id", table = "id_sequences", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -36,6 +52,7 @@ public class Job {
     private EmploymentType employmentType;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job-skills")
     @CollectionTable(name = "job_skills", joinColumns = @JoinColumn(name = "job_id"))
     @Column(name = "skill")
     private List<String> requiredSkills = new ArrayList<>();
@@ -54,7 +71,20 @@ public class Job {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
-    @OneToMany(mappedBy = "job", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    // Open jobs past this are closed by JobExpiryService; null never expires
+    private LocalDateTime expiresAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Also the per-job part of the ETag served by GET /api/jobs/{id}
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Not cascaded: JobDeletionService removes a job's applications in chunks before the job
+    @OneToMany(mappedBy = "job", fetch = FetchType.LAZY)
     private List<Application> applications = new ArrayList<>();
 
     @PrePersist
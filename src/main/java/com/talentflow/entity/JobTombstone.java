@@ -0,0 +1,28 @@
+package com.talentflow.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The id of a deleted or archived job, written in the transaction that removes it, so the search
+ * indexes of every node learn about the removal. Kept for search.change-feed.tombstone-retention.
+ */
+@Entity
+@Table(name = "job_tombstones", indexes = {
+    @Index(name = "idx_job_tombstones_deleted_at", columnList = "deleted_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobTombstone {
+
+    @Id
+    private Long jobId;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,32 @@
+package com.talentflow.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version counter of a whole listing, bumped in the same transaction as every change to it, so
+ * list endpoints can answer conditional requests with a primary key lookup.
+ */
+@Entity
+@Table(name = "listing_versions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListingVersion {
+
+    public static final String JOBS = "jobs";
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
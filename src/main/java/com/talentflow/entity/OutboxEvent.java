@@ -0,0 +1,87 @@
+package com.talentflow.entity;
+
+import com.talentflow.enums.ApplicationStatus;
+import com.talentflow.enums.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application lifecycle event waiting for delivery to downstream sinks. Written in the same
+ * transaction as the change it describes, so an event exists exactly when the change committed.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_pending", columnList = "processed_at, failed_at, next_attempt_at, id"),
+    @Index(name = "idx_outbox_claim_token", columnList = "claim_token"),
+    @Index(name = "idx_outbox_application", columnList = "application_id, id")
+})
+@Data
+@NoArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private OutboxEventType type;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "candidate_id", nullable = false)
+    private Long candidateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status", length = 50)
+    private ApplicationStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private ApplicationStatus status;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // Set by the dispatcher that claimed the event, which owns it until claimed_until
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    // Set once the event ran out of attempts; it stays in the table for inspection
+    @Column(name = "failed_at")
+    private LocalDateTime failedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public OutboxEvent(OutboxEventType type, Application application, ApplicationStatus previousStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        this.type = type;
+        this.applicationId = application.getId();
+        this.jobId = application.getJob().getId();
+        this.candidateId = application.getCandidate().getId();
+        this.previousStatus = previousStatus;
+        this.status = application.getStatus();
+        this.createdAt = now;
+        this.nextAttemptAt = now;
+    }
+}
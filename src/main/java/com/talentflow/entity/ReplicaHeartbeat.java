@@ -0,0 +1,26 @@
+package com.talentflow.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A timestamp written to the primary on every replica lag probe; how far a replica's copy trails
+ * the clock is its replication lag. Only mapped so the table is part of the schema.
+ */
+@Entity
+@Table(name = "replica_heartbeat")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplicaHeartbeat {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long beatMillis;
+}
@@ -0,0 +1,30 @@
+package com.talentflow.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A named lease on a scheduled task. The node whose owner id is stored here runs the task until
+ * leasedUntil; after that any node may take it over.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(length = 64)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime leasedUntil;
+}
@@ -1,16 +1,25 @@
 package com.talentflow.entity;
 
 import com.talentflow.enums.Role;
+import com.talentflow.security.UserChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@EntityListeners(UserChangeListener.class)
 @Table(name = "users", uniqueConstraints = {
     @UniqueConstraint(columnNames = "email")
+}, indexes = {
+    @Index(name = "idx_users_revoked_at", columnList = "revoked_at")
 })
 @Data
 @NoArgsConstructor
@@ -37,12 +46,45 @@ public class User {
     @Column(nullable = false)
     private Boolean isActive = true;
 
+    @Column(nullable = false)
+    private Integer tokenVersion = 0;
+
+    // Last time tokenVersion was bumped or the user deactivated; TokenRevocationRegistry only loads recent ones
+    private LocalDateTime revokedAt;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // Set when tokenVersion or isActive changes, so UserChangeListener revokes tokens only then
+    private transient boolean tokenStateChanged;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
     }
+
+    // Tokens carry the role, so a role change revokes the tokens issued before it
+    public void setRole(Role role) {
+        if (this.role != null && this.role != role) {
+            revokeTokens();
+        }
+        this.role = role;
+    }
+
+    public void setIsActive(Boolean isActive) {
+        if (Boolean.TRUE.equals(this.isActive) && !Boolean.TRUE.equals(isActive)) {
+            revokedAt = LocalDateTime.now();
+        }
+        if (!Objects.equals(this.isActive, isActive)) {
+            tokenStateChanged = true;
+        }
+        this.isActive = isActive;
+    }
+
+    public void revokeTokens() {
+        tokenVersion = tokenVersion + 1;
+        revokedAt = LocalDateTime.now();
+        tokenStateChanged = true;
+    }
 }
 
@@ -0,0 +1,8 @@
+package com.talentflow.enums;
+
+public enum JobDeletionStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
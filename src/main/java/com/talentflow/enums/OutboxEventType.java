@@ -0,0 +1,6 @@
+package com.talentflow.enums;
+
+public enum OutboxEventType {
+    APPLICATION_SUBMITTED,
+    APPLICATION_STATUS_CHANGED
+}
@@ -0,0 +1,6 @@
+package com.talentflow.enums;
+
+public enum SkillMatch {
+    ALL,
+    ANY
+}
@@ -0,0 +1,35 @@
+package com.talentflow.monitoring;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Outside the prod profile, tells the client how many SQL statements the request ran so far in the
+ * {@value #HEADER} response header. Added just before the body is written, which is after the
+ * service call that produced it.
+ */
+@RestControllerAdvice
+@Profile("!prod")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String HEADER = "X-Query-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        response.getHeaders().set(HEADER, String.valueOf(QueryCountInspector.current()));
+        return body;
+    }
+}
@@ -2,9 +2,22 @@ package com.talentflow.repository;
 
 import com.talentflow.entity.Application;
 import com.talentflow.enums.ApplicationStatus;
+import com.talentflow.repository.projection.ApplicationCountRow;
+import com.talentflow.repository.projection.ApplicationRow;
+import com.talentflow.repository.projection.ApplyTarget;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +26,77 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     List<Application> findByCandidate_Id(Long candidateId);
     List<Application> findByJob_Id(Long jobId);
     Optional<Application> findByCandidate_IdAndJob_Id(Long candidateId, Long jobId);
+    long countByJob_Id(Long jobId);
     long countByJob_IdAndStatus(Long jobId, ApplicationStatus status);
-}
+    long countByIdIn(Collection<Long> ids);
+
+    // Everything a status change checks and returns, in one statement; the recruiter stays a reference
+    @Query("SELECT a FROM Application a JOIN FETCH a.job JOIN FETCH a.candidate WHERE a.id = :id")
+    Optional<Application> findWithJobAndCandidateById(@Param("id") Long id);
+
+    // Two primary key lookups in one round trip, instead of loading the job and the candidate
+    @Query("SELECT j.status AS jobStatus, j.expiresAt AS jobExpiresAt, j.title AS jobTitle, c.fullName AS candidateName " +
+           "FROM Job j, User c WHERE j.id = :jobId AND c.id = :candidateId")
+    Optional<ApplyTarget> findApplyTarget(@Param("jobId") Long jobId, @Param("candidateId") Long candidateId);
+
+    // Served by idx_applications_job_status_applied_at / idx_applications_job_applied_at; the job title is read once by the caller
+    @Query(value = "SELECT a.id AS id, c.id AS candidateId, c.fullName AS candidateName, c.email AS candidateEmail, " +
+                   "a.status AS status, a.resumeLink AS resumeLink, a.appliedAt AS appliedAt " +
+                   "FROM Application a JOIN a.candidate c " +
+                   "WHERE a.job.id = :jobId AND (:status IS NULL OR a.status = :status)",
+           countQuery = "SELECT COUNT(a) FROM Application a WHERE a.job.id = :jobId AND (:status IS NULL OR a.status = :status)")
+    Page<ApplicationRow> findRowsByJobId(@Param("jobId") Long jobId,
+                                         @Param("status") ApplicationStatus status,
+                                         Pageable pageable);
+
+    @Query("SELECT a.job.id AS jobId, a.status AS status, COUNT(a) AS count FROM Application a GROUP BY a.job.id, a.status")
+    List<ApplicationCountRow> countGroupByJobAndStatus();
+
+    @Query("SELECT a.job.id AS jobId, a.status AS status, COUNT(a) AS count FROM Application a " +
+           "WHERE a.job.id IN :jobIds GROUP BY a.job.id, a.status")
+    List<ApplicationCountRow> countByJobIdInGroupByStatus(@Param("jobIds") Collection<Long> jobIds);
+
+    @Query("SELECT DISTINCT a.job.id FROM Application a WHERE a.id IN :ids")
+    List<Long> findJobIdsByIdIn(@Param("ids") Collection<Long> ids);
 
+    @Query("SELECT COUNT(a) FROM Application a WHERE a.id IN :ids AND a.job.postedBy.id = :recruiterId")
+    long countByIdInAndJobPostedBy(@Param("ids") Collection<Long> ids, @Param("recruiterId") Long recruiterId);
+
+    // Bulk status changes lock a chunk of rows with one of these, write an outbox event per row and then
+    // update them, so the events name exactly the rows that change and the status they had before.
+    // LIMIT keeps each statement (and the locks it takes) bounded; callers loop until nothing is left.
+    @Query(value = "SELECT id FROM applications WHERE id IN :ids AND status <> :status " +
+                   "AND (:currentStatus IS NULL OR status = :currentStatus) FOR UPDATE", nativeQuery = true)
+    List<Long> lockIdsForStatusChange(@Param("ids") Collection<Long> ids,
+                                      @Param("currentStatus") String currentStatus,
+                                      @Param("status") String status);
+
+    @Query(value = "SELECT id FROM applications WHERE job_id = :jobId AND status <> :status " +
+                   "AND (:currentStatus IS NULL OR status = :currentStatus) ORDER BY id LIMIT :limit FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockIdsByJobForStatusChange(@Param("jobId") Long jobId,
+                                           @Param("currentStatus") String currentStatus,
+                                           @Param("status") String status,
+                                           @Param("limit") int limit);
+
+    @Query(value = "SELECT id FROM applications WHERE job_id IN :jobIds AND status = :currentStatus " +
+                   "ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> lockIdsByJobIdInAndStatus(@Param("jobIds") Collection<Long> jobIds,
+                                         @Param("currentStatus") String currentStatus,
+                                         @Param("limit") int limit);
+
+    // Naming the table keeps Hibernate from clearing every second-level cache region after each chunk
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "applications"))
+    @Query(value = "UPDATE applications SET status = :status, version = version + 1 WHERE id IN :ids",
+           nativeQuery = true)
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") String status);
+
+    // Job deletion and archival work through a job's applications in chunks of these ids
+    @Query("SELECT a.id FROM Application a WHERE a.job.id IN :jobIds")
+    List<Long> findIdsByJobIdIn(@Param("jobIds") Collection<Long> jobIds, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM Application a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,50 @@
+package com.talentflow.repository;
+
+import com.talentflow.entity.ArchivedJob;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Copies jobs, their skills and their applications into the archive tables. Callers delete the
+ * originals in the same transaction; each statement names its target table so the second-level
+ * cache regions of the live tables are left alone.
+ */
+@Repository
+public interface JobArchiveRepository extends JpaRepository<ArchivedJob, Long> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "jobs_archive"))
+    @Query(value = "INSERT INTO jobs_archive (id, title, description, location, employment_type, experience_level, " +
+                   "status, posted_by_id, created_at, updated_at, expires_at, version, archived_at) " +
+                   "SELECT id, title, description, location, employment_type, experience_level, " +
+                   "status, posted_by_id, created_at, updated_at, expires_at, version, :archivedAt FROM jobs WHERE id IN :ids",
+           nativeQuery = true)
+    int copyJobs(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_skills_archive"))
+    @Query(value = "INSERT INTO job_skills_archive (job_id, skill) SELECT job_id, skill FROM job_skills WHERE job_id IN :ids",
+           nativeQuery = true)
+    int copySkills(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "applications_archive"))
+    @Query(value = "INSERT INTO applications_archive (id, candidate_id, job_id, status, resume_link, applied_at, " +
+                   "version, archived_at) " +
+                   "SELECT id, candidate_id, job_id, status, resume_link, applied_at, version, :archivedAt " +
+                   "FROM applications WHERE id IN :ids",
+           nativeQuery = true)
+    int copyApplications(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Query("SELECT COUNT(a) FROM ArchivedApplication a")
+    long countApplications();
+}
@@ -1,29 +1,136 @@
 package com.talentflow.repository;
 
 import com.talentflow.entity.Job;
+import com.talentflow.enums.EmploymentType;
 import com.talentflow.enums.JobStatus;
+import com.talentflow.repository.projection.JobIndexRow;
+import com.talentflow.repository.projection.JobOwnership;
+import com.talentflow.repository.projection.JobRow;
+import com.talentflow.repository.projection.JobSkillRow;
+import com.talentflow.repository.projection.JobTextRow;
+import com.talentflow.repository.projection.JobVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
-    Page<Job> findByStatus(JobStatus status, Pageable pageable);
-    
-    @Query("SELECT j FROM Job j WHERE " +
-           "(:skill IS NULL OR :skill IN (SELECT s FROM j.requiredSkills s)) AND " +
-           "(:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) AND " +
-           "(:status IS NULL OR j.status = :status)")
-    Page<Job> searchJobs(@Param("skill") String skill, 
+
+    // Listing reads select a JobRow with the poster name joined in; skills come from findSkillRows
+    String JOB_ROW_SELECT = "SELECT j.id AS id, j.title AS title, j.description AS description, " +
+            "j.location AS location, j.employmentType AS employmentType, j.experienceLevel AS experienceLevel, " +
+            "j.status AS status, p.id AS postedById, p.fullName AS postedByName, j.createdAt AS createdAt, " +
+            "j.updatedAt AS updatedAt, j.expiresAt AS expiresAt, j.version AS version " +
+            "FROM Job j JOIN j.postedBy p ";
+
+    String SEARCH_FILTER = "WHERE " +
+            "(:skillCount = 0 OR " +
+            " (:matchAll = false AND EXISTS (SELECT s FROM j.requiredSkills s WHERE LOWER(s) IN :skills)) OR " +
+            " (:matchAll = true AND (SELECT COUNT(DISTINCT LOWER(s)) FROM j.requiredSkills s WHERE LOWER(s) IN :skills) = :skillCount)) AND " +
+            "(:location IS NULL OR function('regexp_like', LOWER(j.location), :location) = true) AND " +
+            "(:status IS NULL OR j.status = :status) AND " +
+            "(:employmentType IS NULL OR j.employmentType = :employmentType)";
+
+    // Fallback for sorts the in-memory search index cannot serve; skills are expected lower case and
+    // location as a JobSearchIndex.locationPattern, so both match the same jobs
+    @Query(value = JOB_ROW_SELECT + SEARCH_FILTER, countQuery = "SELECT COUNT(j) FROM Job j " + SEARCH_FILTER)
+    Page<JobRow> searchJobs(@Param("skills") Collection<String> skills,
+                         @Param("skillCount") long skillCount,
+                         @Param("matchAll") boolean matchAll,
                          @Param("location") String location, 
                          @Param("status") JobStatus status, 
+                         @Param("employmentType") EmploymentType employmentType,
                          Pageable pageable);
+
+    @Query(value = JOB_ROW_SELECT, countQuery = "SELECT COUNT(j) FROM Job j")
+    Page<JobRow> findJobRows(Pageable pageable);
+
+    @Query(JOB_ROW_SELECT + "WHERE j.id IN :ids")
+    List<JobRow> findJobRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(JOB_ROW_SELECT + "WHERE j.id = :id")
+    Optional<JobRow> findJobRowById(@Param("id") Long id);
+
+    @Query("SELECT j.id AS id, j.createdAt AS createdAt, j.status AS status, " +
+           "j.employmentType AS employmentType, j.location AS location FROM Job j " +
+           "WHERE :createdAt IS NULL OR j.createdAt > :createdAt OR (j.createdAt = :createdAt AND j.id > :id) " +
+           "ORDER BY j.createdAt, j.id")
+    List<JobIndexRow> findIndexRows(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT j.id AS id, j.title AS title, j.description AS description FROM Job j " +
+           "WHERE j.id > :afterId ORDER BY j.id")
+    List<JobTextRow> findTextRows(@Param("afterId") Long afterId, Pageable pageable);
+
+    // The search indexes' change feed, keyset-paged over idx_jobs_updated_at_id
+    @Query(JOB_ROW_SELECT + "WHERE j.updatedAt > :updatedAt OR (j.updatedAt = :updatedAt AND j.id > :id) " +
+           "ORDER BY j.updatedAt, j.id")
+    List<JobRow> findJobRowsUpdatedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id,
+                                         Pageable pageable);
+
+    @Query("SELECT j.id AS jobId, s AS skill FROM Job j JOIN j.requiredSkills s WHERE j.id IN :ids")
+    List<JobSkillRow> findSkillRows(@Param("ids") Collection<Long> ids);
     
+    // Skill and location are expected as in searchJobs
+    @Query("SELECT COUNT(j) FROM Job j WHERE " +
+           "(:skill IS NULL OR EXISTS (SELECT s FROM j.requiredSkills s WHERE LOWER(s) = :skill)) AND " +
+           "(:location IS NULL OR function('regexp_like', LOWER(j.location), :location) = true) AND " +
+           "(:status IS NULL OR j.status = :status)")
+    long countSearchJobs(@Param("skill") String skill,
+                         @Param("location") String location,
+                         @Param("status") JobStatus status);
+
+    // Keyset (seek) pagination over (createdAt DESC, id DESC), served by idx_jobs_created_at_id
+    @Query(JOB_ROW_SELECT + "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobRow> findFirstPage(Limit limit);
+
+    @Query(JOB_ROW_SELECT + "WHERE j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobRow> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    @Query(JOB_ROW_SELECT + "WHERE " +
+           "(:skill IS NULL OR EXISTS (SELECT s FROM j.requiredSkills s WHERE LOWER(s) = :skill)) AND " +
+           "(:location IS NULL OR function('regexp_like', LOWER(j.location), :location) = true) AND " +
+           "(:status IS NULL OR j.status = :status) AND " +
+           "(:createdAt IS NULL OR j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id)) " +
+           "ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobRow> searchJobsAfter(@Param("skill") String skill,
+                              @Param("location") String location,
+                              @Param("status") JobStatus status,
+                              @Param("createdAt") LocalDateTime createdAt,
+                              @Param("id") Long id,
+                              Limit limit);
+
+    @Query("SELECT j.version AS version, j.updatedAt AS updatedAt FROM Job j WHERE j.id = :id")
+    Optional<JobVersion> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT j.title AS title, j.postedBy.id AS postedById FROM Job j WHERE j.id = :id")
+    Optional<JobOwnership> findOwnershipById(@Param("id") Long id);
+
     List<Job> findByPostedBy_Id(Long recruiterId);
-}
+    boolean existsByIdAndPostedBy_Id(Long id, Long recruiterId);
+
+    @Query("SELECT j.id FROM Job j WHERE j.status = :status AND j.updatedAt < :updatedBefore ORDER BY j.id")
+    List<Long> findIdsByStatusUpdatedBefore(@Param("status") JobStatus status,
+                                            @Param("updatedBefore") LocalDateTime updatedBefore,
+                                            Limit limit);
 
+    @Query("SELECT j.id FROM Job j WHERE j.status = :status AND j.expiresAt <= :now ORDER BY j.expiresAt, j.id")
+    List<Long> findIdsByStatusExpiredAt(@Param("status") JobStatus status, @Param("now") LocalDateTime now, Limit limit);
+
+    // Bumps version and updatedAt like an entity update would, so ETags change. As a bulk statement it
+    // also drops the jobs second-level cache region, once per batch rather than once per job.
+    @Modifying
+    @Query("UPDATE Job j SET j.status = com.talentflow.enums.JobStatus.CLOSED, j.updatedAt = :now, " +
+           "j.version = j.version + 1 WHERE j.id IN :ids AND j.status = com.talentflow.enums.JobStatus.OPEN")
+    int closeByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
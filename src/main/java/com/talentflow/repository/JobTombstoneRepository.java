@@ -0,0 +1,36 @@
+package com.talentflow.repository;
+
+import com.talentflow.entity.JobTombstone;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JobTombstoneRepository extends JpaRepository<JobTombstone, Long> {
+
+    // Copied from the jobs before they are removed, so only jobs that existed get a tombstone
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_tombstones"))
+    @Query(value = "INSERT INTO job_tombstones (job_id, deleted_at) SELECT id, :now FROM jobs WHERE id IN :ids",
+           nativeQuery = true)
+    int insertForJobs(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("SELECT t.jobId FROM JobTombstone t WHERE t.deletedAt >= :since")
+    List<Long> findJobIdsDeletedSince(@Param("since") LocalDateTime since);
+
+    // LIMIT keeps each statement (and the locks it takes) bounded; callers loop until nothing is left.
+    // Naming the table keeps Hibernate from clearing every second-level cache region after each chunk.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "job_tombstones"))
+    @Query(value = "DELETE FROM job_tombstones WHERE deleted_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,18 @@
+package com.talentflow.repository;
+
+import com.talentflow.entity.ListingVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ListingVersionRepository extends JpaRepository<ListingVersion, String> {
+
+    @Modifying
+    @Query("UPDATE ListingVersion v SET v.version = v.version + 1, v.updatedAt = :now WHERE v.name = :name")
+    int increment(@Param("name") String name, @Param("now") LocalDateTime now);
+}
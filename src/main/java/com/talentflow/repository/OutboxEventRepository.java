@@ -0,0 +1,97 @@
+package com.talentflow.repository;
+
+import com.talentflow.entity.OutboxEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Served by idx_outbox_pending. An event waits while an earlier one of its application backs off or is
+    // claimed by another dispatcher (looked up through idx_outbox_application), so they are delivered in order
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.processedAt IS NULL AND e.failedAt IS NULL " +
+           "AND e.nextAttemptAt <= :now AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) " +
+           "AND NOT EXISTS (SELECT p.id FROM OutboxEvent p WHERE p.applicationId = e.applicationId AND p.id < e.id " +
+           "AND p.processedAt IS NULL AND p.failedAt IS NULL AND (p.nextAttemptAt > :now OR p.claimedUntil >= :now)) " +
+           "ORDER BY e.id")
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, Limit limit);
+
+    // Only rows nobody else claimed in between are taken, so concurrent dispatchers never share an event
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimToken = :token, e.claimedUntil = :until " +
+           "WHERE e.id IN :ids AND e.processedAt IS NULL AND (e.claimedUntil IS NULL OR e.claimedUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("token") String token,
+              @Param("now") LocalDateTime now,
+              @Param("until") LocalDateTime until);
+
+    // Claimed events with an earlier pending event of their application outside the claim, which can happen
+    // when another dispatcher claimed that one between findClaimableIds and claim
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.claimToken = :token AND EXISTS (SELECT p.id FROM OutboxEvent p " +
+           "WHERE p.applicationId = e.applicationId AND p.id < e.id AND p.processedAt IS NULL AND p.failedAt IS NULL " +
+           "AND (p.claimToken IS NULL OR p.claimToken <> :token))")
+    List<Long> findClaimedOutOfOrderIds(@Param("token") String token);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimToken = NULL, e.claimedUntil = NULL " +
+           "WHERE e.id IN :ids AND e.claimToken = :token")
+    int release(@Param("ids") Collection<Long> ids, @Param("token") String token);
+
+    List<OutboxEvent> findByClaimTokenOrderById(String claimToken);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.processedAt = :now, e.claimToken = NULL, e.claimedUntil = NULL " +
+           "WHERE e.claimToken = :token")
+    int markProcessed(@Param("token") String token, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, " +
+           "e.lastError = :error, e.claimToken = NULL, e.claimedUntil = NULL WHERE e.claimToken = :token")
+    int markAttemptFailed(@Param("token") String token,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.failedAt = :now WHERE e.id IN :ids AND e.processedAt IS NULL " +
+           "AND e.attempts >= :maxAttempts")
+    int markGivenUp(@Param("ids") Collection<Long> ids,
+                    @Param("maxAttempts") int maxAttempts,
+                    @Param("now") LocalDateTime now);
+
+    long countByProcessedAtIsNullAndFailedAtIsNull();
+
+    long countByFailedAtIsNotNull();
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.processedAt IS NULL AND e.failedAt IS NULL")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    // One event per application, copied from the rows before the bulk UPDATE so previous_status is still the old one
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox_events"))
+    @Query(value = "INSERT INTO outbox_events (type, application_id, job_id, candidate_id, previous_status, status, " +
+                   "created_at, attempts, next_attempt_at) " +
+                   "SELECT :type, id, job_id, candidate_id, status, :status, :now, 0, :now FROM applications " +
+                   "WHERE id IN :ids ORDER BY id", nativeQuery = true)
+    int insertForApplications(@Param("ids") Collection<Long> ids,
+                              @Param("type") String type,
+                              @Param("status") String status,
+                              @Param("now") LocalDateTime now);
+
+    // LIMIT keeps each statement (and the locks it takes) bounded; callers loop until nothing is left.
+    // Naming the table keeps Hibernate from clearing every second-level cache region after each chunk.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "outbox_events"))
+    @Query(value = "DELETE FROM outbox_events WHERE processed_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
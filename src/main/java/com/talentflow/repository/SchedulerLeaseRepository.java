@@ -0,0 +1,33 @@
+package com.talentflow.repository;
+
+import com.talentflow.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // Taken only once it ran out or was released, even by its own node, so two runs never overlap
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.leasedUntil = :until " +
+           "WHERE l.name = :name AND l.leasedUntil <= :now")
+    int acquire(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("until") LocalDateTime until);
+
+    // A plain INSERT, not save(): a merge could overwrite a lease another node just created
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_leases (name, owner, leased_until) VALUES (:name, :owner, :until)",
+           nativeQuery = true)
+    int create(@Param("name") String name, @Param("owner") String owner, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.leasedUntil = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
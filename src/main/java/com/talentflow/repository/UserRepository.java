@@ -2,15 +2,43 @@ package com.talentflow.repository;
 
 import com.talentflow.entity.User;
 import com.talentflow.enums.Role;
+import com.talentflow.repository.projection.UserTokenState;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Cached as the user's id; the user itself then comes from the users region
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "users-by-email")
+    })
     Optional<User> findByEmail(String email);
+
+
     boolean existsByEmail(String email);
     long countByRole(Role role);
-}
 
+    // Revocations older than the token lifetime only concern tokens that have expired anyway
+    @Query("SELECT u.id AS id, u.tokenVersion AS tokenVersion, u.isActive AS active FROM User u " +
+           "WHERE u.revokedAt > :revokedAfter AND u.id > :afterId ORDER BY u.id")
+    List<UserTokenState> findRevocationStates(@Param("revokedAfter") LocalDateTime revokedAfter,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
+    // Bulk updates evict the whole users region, which is acceptable for the rare rehash at login
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
+}
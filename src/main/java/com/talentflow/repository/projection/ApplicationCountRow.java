@@ -0,0 +1,9 @@
+package com.talentflow.repository.projection;
+
+import com.talentflow.enums.ApplicationStatus;
+
+public interface ApplicationCountRow {
+    Long getJobId();
+    ApplicationStatus getStatus();
+    Long getCount();
+}
@@ -0,0 +1,15 @@
+package com.talentflow.repository.projection;
+
+import com.talentflow.enums.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+public interface ApplicationRow {
+    Long getId();
+    Long getCandidateId();
+    String getCandidateName();
+    String getCandidateEmail();
+    ApplicationStatus getStatus();
+    String getResumeLink();
+    LocalDateTime getAppliedAt();
+}
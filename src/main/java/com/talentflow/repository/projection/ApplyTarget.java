@@ -0,0 +1,12 @@
+package com.talentflow.repository.projection;
+
+import com.talentflow.enums.JobStatus;
+
+import java.time.LocalDateTime;
+
+public interface ApplyTarget {
+    JobStatus getJobStatus();
+    LocalDateTime getJobExpiresAt();
+    String getJobTitle();
+    String getCandidateName();
+}
@@ -0,0 +1,14 @@
+package com.talentflow.repository.projection;
+
+import com.talentflow.enums.EmploymentType;
+import com.talentflow.enums.JobStatus;
+
+import java.time.LocalDateTime;
+
+public interface JobIndexRow {
+    Long getId();
+    LocalDateTime getCreatedAt();
+    JobStatus getStatus();
+    EmploymentType getEmploymentType();
+    String getLocation();
+}
@@ -0,0 +1,6 @@
+package com.talentflow.repository.projection;
+
+public interface JobOwnership {
+    String getTitle();
+    Long getPostedById();
+}
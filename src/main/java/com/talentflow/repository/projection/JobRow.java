@@ -0,0 +1,22 @@
+package com.talentflow.repository.projection;
+
+import com.talentflow.enums.EmploymentType;
+import com.talentflow.enums.JobStatus;
+
+import java.time.LocalDateTime;
+
+public interface JobRow {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    String getLocation();
+    EmploymentType getEmploymentType();
+    String getExperienceLevel();
+    JobStatus getStatus();
+    Long getPostedById();
+    String getPostedByName();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    LocalDateTime getExpiresAt();
+    Long getVersion();
+}
@@ -0,0 +1,6 @@
+package com.talentflow.repository.projection;
+
+public interface JobSkillRow {
+    Long getJobId();
+    String getSkill();
+}
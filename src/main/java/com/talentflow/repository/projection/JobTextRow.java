@@ -0,0 +1,7 @@
+package com.talentflow.repository.projection;
+
+public interface JobTextRow {
+    Long getId();
+    String getTitle();
+    String getDescription();
+}
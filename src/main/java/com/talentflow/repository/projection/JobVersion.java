@@ -0,0 +1,8 @@
+package com.talentflow.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface JobVersion {
+    Long getVersion();
+    LocalDateTime getUpdatedAt();
+}
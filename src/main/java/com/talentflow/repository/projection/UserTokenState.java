@@ -0,0 +1,7 @@
+package com.talentflow.repository.projection;
+
+public interface UserTokenState {
+    Long getId();
+    Integer getTokenVersion();
+    Boolean getActive();
+}
@@ -0,0 +1,95 @@
+package com.talentflow.security;
+
+import com.talentflow.entity.User;
+import com.talentflow.enums.Role;
+import com.talentflow.exception.UnauthorizedAccessException;
+import com.talentflow.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * The authenticated caller of the current request, read once from the security context. Id, role,
+ * email and name come from the {@link UserPrincipal} the JWT filter resolved, so services check
+ * ownership and roles without loading the user; {@link #getUser()} hands out an uninitialized
+ * reference for foreign keys, which only hits the database if one of its other fields is read.
+ */
+@Component
+@RequestScope
+public class CurrentUser {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserPrincipal principal;
+    private boolean resolved;
+    private User user;
+
+    public boolean isAuthenticated() {
+        return resolve() != null;
+    }
+
+    public UserPrincipal getPrincipal() {
+        UserPrincipal userPrincipal = resolve();
+        if (userPrincipal == null) {
+            throw new UnauthorizedAccessException("Authentication required");
+        }
+        return userPrincipal;
+    }
+
+    public Long getId() {
+        return getPrincipal().getId();
+    }
+
+    public Role getRole() {
+        return getPrincipal().getRole();
+    }
+
+    public String getEmail() {
+        return getPrincipal().getUsername();
+    }
+
+    // Stateless tokens carry no name; reading it from the reference then loads the user
+    public String getFullName() {
+        String fullName = getPrincipal().getFullName();
+        return fullName != null ? fullName : getUser().getFullName();
+    }
+
+    public boolean isAdmin() {
+        return getRole() == Role.ADMIN;
+    }
+
+    public boolean hasAnyRole(Role... roles) {
+        Role role = getRole();
+        for (Role candidate : roles) {
+            if (candidate == role) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isSelf(Long userId) {
+        return getId().equals(userId);
+    }
+
+    public User getUser() {
+        if (user == null) {
+            user = userRepository.getReferenceById(getId());
+        }
+        return user;
+    }
+
+    private UserPrincipal resolve() {
+        if (!resolved) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
+                principal = userPrincipal;
+            }
+            resolved = true;
+        }
+        return principal;
+    }
+}
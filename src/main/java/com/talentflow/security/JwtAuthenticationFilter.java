@@ -1,5 +1,8 @@
 package com.talentflow.security;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,9 +10,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -26,26 +29,82 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private CustomUserDetailsService customUserDetailsService;
 
+    @Autowired
+    private TokenCache tokenCache;
+
+    @Autowired
+    private TokenRevocationRegistry revocationRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${jwt.stateless.enabled:false}")
+    private boolean statelessEnabled;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = authenticate(request);
+        sample.stop(Timer.builder("talentflow.jwt.authentication")
+                .description("Time spent resolving the bearer token, before the rest of the chain")
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String authenticate(HttpServletRequest request) {
         try {
             String jwt = getJwtFromRequest(request);
+            if (!StringUtils.hasText(jwt)) {
+                return "anonymous";
+            }
+
+            String outcome = "cached";
+            UserPrincipal userPrincipal = tokenCache.get(jwt);
+            if (userPrincipal == null) {
+                // Parsing verifies the signature and the expiry in one pass
+                Claims claims = tokenProvider.extractAllClaims(jwt);
+                userPrincipal = resolvePrincipal(claims);
+                if (userPrincipal == null) {
+                    logger.debug("Rejected revoked token for subject {}", claims.getSubject());
+                    return "revoked";
+                }
+                tokenCache.put(jwt, userPrincipal, claims.getExpiration());
+                outcome = "verified";
+            }
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt, 
-                    customUserDetailsService.loadUserByUsername(tokenProvider.extractUsername(jwt)))) {
-                String username = tokenProvider.extractUsername(jwt);
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (revocationRegistry.isRevoked(userPrincipal)) {
+                logger.debug("Rejected revoked token for user {}", userPrincipal.getId());
+                return "revoked";
             }
+
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    userPrincipal, null, userPrincipal.getAuthorities());
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+            return outcome;
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
+            return "error";
+        }
+    }
+
+    private UserPrincipal resolvePrincipal(Claims claims) {
+        if (statelessEnabled) {
+            UserPrincipal fromClaims = tokenProvider.extractUserPrincipal(claims);
+            if (fromClaims != null) {
+                return fromClaims;
+            }
         }
 
-        filterChain.doFilter(request, response);
+        UserPrincipal userPrincipal = (UserPrincipal) customUserDetailsService.loadUserByUsername(claims.getSubject());
+        Integer tokenVersion = claims.get(JwtTokenProvider.CLAIM_TOKEN_VERSION, Integer.class);
+        if (tokenVersion != null && tokenVersion < userPrincipal.getTokenVersion()) {
+            return null;
+        }
+        return userPrincipal;
     }
 
     private String getJwtFromRequest(HttpServletRequest request) {
@@ -1,16 +1,24 @@
 package com.talentflow.security;
 
+import com.talentflow.enums.Role;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -21,13 +29,65 @@ public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     @Value("${jwt.secret}")
     private String secret;
 
+    @Value("${jwt.key-id:primary}")
+    private String keyId;
+
+    // Retired keys still accepted for verification, as "kid=secret" pairs separated by commas
+    @Value("${jwt.verification-keys:}")
+    private String verificationKeys;
+
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    private SecretKey getSigningKey() {
+    private SecretKey signingKey;
+    private Map<String, SecretKey> keysById;
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = toKey(secret);
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        if (StringUtils.hasText(verificationKeys)) {
+            for (String entry : verificationKeys.split(",")) {
+                int separator = entry.indexOf('=');
+                if (separator <= 0) {
+                    throw new IllegalStateException("Invalid jwt.verification-keys entry, expected kid=secret");
+                }
+                keys.put(entry.substring(0, separator).trim(), toKey(entry.substring(separator + 1).trim()));
+            }
+        }
+        keys.put(keyId, signingKey);
+        keysById = Map.copyOf(keys);
+
+        parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        String kid = header.getKeyId();
+                        // Tokens issued before kid headers were introduced
+                        if (kid == null) {
+                            return signingKey;
+                        }
+                        SecretKey key = keysById.get(kid);
+                        if (key == null) {
+                            throw new UnsupportedJwtException("Unknown signing key id: " + kid);
+                        }
+                        return key;
+                    }
+                })
+                .build();
+        logger.info("JWT signing key '{}' loaded with {} verification keys", keyId, keysById.size());
+    }
+
+    private static SecretKey toKey(String secret) {
         return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
     }
 
@@ -44,16 +104,8 @@ public class JwtTokenProvider {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public Claims extractAllClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -63,23 +115,46 @@ public class JwtTokenProvider {
 
     public String generateToken(UserDetails userDetails, String role) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("role", role);
+        claims.put(CLAIM_ROLE, role);
         return createToken(claims, userDetails.getUsername());
     }
 
+    public String generateToken(UserPrincipal userPrincipal) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_ROLE, userPrincipal.getRole().name());
+        claims.put(CLAIM_USER_ID, userPrincipal.getId());
+        claims.put(CLAIM_TOKEN_VERSION, userPrincipal.getTokenVersion());
+        return createToken(claims, userPrincipal.getUsername());
+    }
+
+    /**
+     * Builds a principal straight from verified claims, or returns null for tokens issued
+     * before the user id and token version were embedded.
+     */
+    public UserPrincipal extractUserPrincipal(Claims claims) {
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        Integer tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Integer.class);
+        if (userId == null || role == null || tokenVersion == null) {
+            return null;
+        }
+        return UserPrincipal.fromClaims(userId, claims.getSubject(), Role.valueOf(role), tokenVersion);
+    }
+
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
                 .claims(claims)
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .header().keyId(keyId).and()
+                .signWith(signingKey)
                 .compact();
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date()));
     }
 }
 
@@ -0,0 +1,171 @@
+package com.talentflow.security;
+
+import com.talentflow.dto.response.PasswordHashingStatsResponse;
+import com.talentflow.exception.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt on a fixed pool of CPU-sized threads with a bounded queue, so a burst of logins or
+ * registrations cannot occupy every request thread with hashing. When the queue is full, or a hash
+ * does not finish within the timeout, the caller gets a {@link ServiceUnavailableException} (503)
+ * right away instead of piling up. Hashes made with another cost than the configured strength
+ * report {@link #upgradeEncoding}, which makes DaoAuthenticationProvider rehash them on login.
+ */
+public class PooledPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledPasswordEncoder.class);
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final int queueCapacity;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder totalHashNanos = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    public PooledPasswordEncoder(int strength, int threads, int queueCapacity, Duration timeout) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        logger.info("Password hashing on {} threads, queue of {}, BCrypt strength {}", poolSize, queueCapacity, strength);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private <T> T hash(Callable<T> task) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                totalWaitNanos.add(started - submitted);
+                try {
+                    return task.call();
+                } finally {
+                    long elapsed = System.nanoTime() - started;
+                    hashes.increment();
+                    totalHashNanos.add(elapsed);
+                    maxHashNanos.accumulateAndGet(elapsed, Math::max);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many sign-in requests, please retry shortly");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new ServiceUnavailableException("Too many sign-in requests, please retry shortly");
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while checking the password");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveThreads() {
+        return executor.getActiveCount();
+    }
+
+    public long getHashes() {
+        return hashes.sum();
+    }
+
+    public long getTotalHashNanos() {
+        return totalHashNanos.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getTimedOut() {
+        return timedOut.sum();
+    }
+
+    public PasswordHashingStatsResponse getStats() {
+        long count = getHashes();
+        PasswordHashingStatsResponse stats = new PasswordHashingStatsResponse();
+        stats.setThreads(executor.getMaximumPoolSize());
+        stats.setActiveThreads(getActiveThreads());
+        stats.setQueueDepth(getQueueDepth());
+        stats.setQueueCapacity(queueCapacity);
+        stats.setCompleted(count);
+        stats.setRejected(getRejected());
+        stats.setTimedOut(getTimedOut());
+        stats.setAverageHashMs(count == 0 ? 0 : getTotalHashNanos() / 1e6 / count);
+        stats.setMaxHashMs(maxHashNanos.get() / 1e6);
+        stats.setAverageWaitMs(count == 0 ? 0 : totalWaitNanos.sum() / 1e6 / count);
+        stats.setBcryptStrength(strength);
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,197 @@
+package com.talentflow.security;
+
+import com.talentflow.config.RateLimitProperties;
+import com.talentflow.dto.response.RateLimitStatsResponse;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Token buckets per route group and key, kept as a single "theoretical arrival time" per key (the
+ * generic cell rate algorithm): a request is admitted when that time, advanced by one emission
+ * interval, stays within the burst tolerance of now, and admitting it is one compare-and-set. A
+ * bucket whose arrival time has passed is indistinguishable from a new one, so idle keys can be
+ * dropped at any time without loosening the limit.
+ */
+@Component
+public class RateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    private List<Group> groups = List.of();
+
+    @PostConstruct
+    public void init() {
+        groups = properties.getGroups().stream().map(Group::new).toList();
+        if (properties.isEnabled()) {
+            logger.info("Rate limiting {} route groups: {}", groups.size(),
+                    groups.stream().map(group -> group.name).collect(Collectors.joining(", ")));
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled() && !groups.isEmpty();
+    }
+
+    public List<Group> getGroups() {
+        return groups;
+    }
+
+    public Group match(String method, String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (Group group : groups) {
+            if (group.matches(method, pathContainer)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Takes one token from the key's bucket in the group. Returns 0 when the request is admitted,
+     * otherwise the nanoseconds until it would be.
+     */
+    public long tryAcquire(Group group, Object key) {
+        long now = System.nanoTime();
+        AtomicLong arrival = group.buckets.get(key);
+        if (arrival == null) {
+            if (group.buckets.size() >= properties.getMaxKeys()) {
+                makeRoom(group, now);
+            }
+            arrival = group.buckets.computeIfAbsent(key, newKey -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long current = arrival.get();
+            long next = (current - now > 0 ? current : now) + group.intervalNanos;
+            long wait = next - now - group.toleranceNanos;
+            if (wait > 0) {
+                group.throttled.increment();
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-ms:60000}", initialDelayString = "${rate-limit.sweep-ms:60000}")
+    public void removeIdle() {
+        long now = System.nanoTime();
+        for (Group group : groups) {
+            removeIdle(group, now);
+        }
+    }
+
+    public List<RateLimitStatsResponse> getStats() {
+        return groups.stream()
+                .map(group -> new RateLimitStatsResponse(group.name, group.requests, group.period, group.burst,
+                        group.buckets.size(), group.throttled.sum(), group.evictions.sum()))
+                .toList();
+    }
+
+    // A request racing with the removal may go uncounted, which at worst admits one extra request
+    private int removeIdle(Group group, long now) {
+        int removed = 0;
+        Iterator<AtomicLong> iterator = group.buckets.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().get() - now <= 0) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        group.evictions.add(removed);
+        return removed;
+    }
+
+    private void makeRoom(Group group, long now) {
+        removeIdle(group, now);
+
+        // Every key is still throttled: drop an arbitrary tenth rather than growing unbounded
+        if (group.buckets.size() >= properties.getMaxKeys()) {
+            int toRemove = Math.max(1, properties.getMaxKeys() / 10);
+            int removed = 0;
+            Iterator<AtomicLong> iterator = group.buckets.values().iterator();
+            while (iterator.hasNext() && removed < toRemove) {
+                iterator.next();
+                iterator.remove();
+                removed++;
+            }
+            group.evictions.add(removed);
+            logger.warn("Rate limit group {} is tracking {} keys, dropped {} active ones",
+                    group.name, properties.getMaxKeys(), removed);
+        }
+    }
+
+    public static final class Group {
+        private final String name;
+        private final Set<String> methods;
+        private final List<PathPattern> paths;
+        private final int requests;
+        private final String period;
+        private final int burst;
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final Map<Object, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final LongAdder throttled = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        Group(RateLimitProperties.Group config) {
+            if (config.getRequests() <= 0 || config.getBurst() <= 0) {
+                throw new IllegalArgumentException("Rate limit group " + config.getName()
+                        + " needs positive requests and burst");
+            }
+            this.name = config.getName();
+            this.methods = config.getMethods().stream().map(method -> method.toUpperCase(Locale.ROOT)).collect(Collectors.toSet());
+            this.paths = config.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+            this.requests = config.getRequests();
+            this.period = config.getPeriod().toString();
+            this.burst = config.getBurst();
+            this.intervalNanos = config.getPeriod().toNanos() / config.getRequests();
+            this.toleranceNanos = intervalNanos * config.getBurst();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getTrackedKeys() {
+            return buckets.size();
+        }
+
+        public long getThrottled() {
+            return throttled.sum();
+        }
+
+        boolean matches(String method, PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            for (PathPattern pattern : paths) {
+                if (pattern.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.talentflow.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of already verified JWTs, keyed by a SHA-256 digest of the token so raw
+ * tokens are never retained. Entries expire after jwt.cache.ttl, or with their token if that is
+ * sooner. The TTL bounds how long a logout, deactivation or role change made on another node goes
+ * unnoticed here; changes on this node evict the user's entries as soon as they commit.
+ */
+@Component
+public class TokenCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenCache.class);
+
+    @Value("${jwt.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jwt.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${jwt.cache.ttl:30s}")
+    private Duration ttl;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UserPrincipal get(String token) {
+        if (!enabled) {
+            return null;
+        }
+
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            if (entries.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.principal();
+    }
+
+    public void put(String token, UserPrincipal principal, Date expiration) {
+        if (!enabled || expiration == null) {
+            return;
+        }
+
+        if (entries.size() >= maxSize) {
+            makeRoom();
+        }
+        long expiresAt = Math.min(expiration.getTime(), System.currentTimeMillis() + ttl.toMillis());
+        // The password hash is only needed at login, so it is not kept in memory for every token
+        entries.put(digest(token), new Entry(principal.withPassword(null), expiresAt));
+    }
+
+    public void invalidateUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        int before = entries.size();
+        entries.values().removeIf(entry -> userId.equals(entry.principal().getId()));
+        int removed = before - entries.size();
+        if (removed > 0) {
+            evictions.add(removed);
+            logger.debug("Invalidated {} cached tokens for user {}", removed, userId);
+        }
+    }
+
+    public void clear() {
+        int removed = entries.size();
+        entries.clear();
+        evictions.add(removed);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private void makeRoom() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt() <= now) {
+                iterator.remove();
+                removed++;
+            }
+        }
+
+        // Nothing had expired: drop an arbitrary tenth of the entries rather than growing unbounded
+        if (entries.size() >= maxSize) {
+            int toRemove = Math.max(1, maxSize / 10);
+            iterator = entries.values().iterator();
+            while (iterator.hasNext() && toRemove-- > 0) {
+                iterator.next();
+                iterator.remove();
+                removed++;
+            }
+        }
+        evictions.add(removed);
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+
+    private record Entry(UserPrincipal principal, long expiresAt) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.talentflow.security;
+
+import com.talentflow.repository.UserRepository;
+import com.talentflow.repository.projection.UserTokenState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-user minimum accepted token version, used when principals are built from JWT claims
+ * without a database lookup. Only users that logged out, changed role or were deactivated
+ * within the last token lifetime have an entry, and the map is reloaded from the database
+ * periodically so revocations made on other nodes take effect within one refresh interval.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+
+    private static final int REFRESH_BATCH_SIZE = 1000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${jwt.stateless.enabled:false}")
+    private boolean statelessEnabled;
+
+    @Value("${jwt.expiration}")
+    private long tokenLifetimeMillis;
+
+    private volatile Map<Long, Integer> minimumVersions = new ConcurrentHashMap<>();
+
+    public boolean isRevoked(UserPrincipal principal) {
+        Integer minimumVersion = minimumVersions.get(principal.getId());
+        if (minimumVersion == null) {
+            return false;
+        }
+        int tokenVersion = principal.getTokenVersion() == null ? 0 : principal.getTokenVersion();
+        return tokenVersion < minimumVersion;
+    }
+
+    // Without stateless tokens the version is checked against the user row, so nothing needs recording
+    public void revoke(Long userId, int minimumVersion) {
+        if (statelessEnabled) {
+            minimumVersions.put(userId, minimumVersion);
+        }
+    }
+
+    public void revokeAll(Long userId) {
+        if (statelessEnabled) {
+            minimumVersions.put(userId, Integer.MAX_VALUE);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.stateless.revocation-refresh-ms:30000}",
+               initialDelayString = "${jwt.stateless.revocation-refresh-ms:30000}")
+    public void refresh() {
+        if (!statelessEnabled) {
+            return;
+        }
+
+        Map<Long, Integer> refreshed = new ConcurrentHashMap<>();
+        LocalDateTime revokedAfter = LocalDateTime.now().minus(Duration.ofMillis(tokenLifetimeMillis));
+        Long afterId = 0L;
+        List<UserTokenState> batch;
+        do {
+            batch = userRepository.findRevocationStates(revokedAfter, afterId, PageRequest.of(0, REFRESH_BATCH_SIZE));
+            for (UserTokenState state : batch) {
+                refreshed.put(state.getId(), Boolean.TRUE.equals(state.getActive())
+                        ? state.getTokenVersion() : Integer.MAX_VALUE);
+                afterId = state.getId();
+            }
+        } while (batch.size() == REFRESH_BATCH_SIZE);
+
+        minimumVersions = refreshed;
+        logger.debug("Token revocation list refreshed: {} entries", refreshed.size());
+    }
+
+    public int size() {
+        return minimumVersions.size();
+    }
+}
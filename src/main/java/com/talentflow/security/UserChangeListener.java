@@ -0,0 +1,68 @@
+package com.talentflow.security;
+
+import com.talentflow.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Once a change to a user commits, drops the user's cached tokens and, for a logout, role change
+ * or deactivation, revokes the user's tokens, so they take effect on the next request instead of
+ * when the token expires. A change that rolls back leaves both alone.
+ */
+public class UserChangeListener {
+
+    @Autowired
+    private TokenCache tokenCache;
+
+    @Autowired
+    @Lazy
+    private TokenRevocationRegistry revocationRegistry;
+
+    @PostUpdate
+    public void onUserUpdated(User user) {
+        Long userId = user.getId();
+        boolean tokenStateChanged = user.isTokenStateChanged();
+        boolean active = Boolean.TRUE.equals(user.getIsActive());
+        int tokenVersion = user.getTokenVersion();
+        user.setTokenStateChanged(false);
+
+        afterCommit(() -> {
+            tokenCache.invalidateUser(userId);
+            if (!tokenStateChanged) {
+                return;
+            }
+            if (active) {
+                revocationRegistry.revoke(userId, tokenVersion);
+            } else {
+                revocationRegistry.revokeAll(userId);
+            }
+        });
+    }
+
+    @PostRemove
+    public void onUserRemoved(User user) {
+        Long userId = user.getId();
+        afterCommit(() -> {
+            tokenCache.invalidateUser(userId);
+            revocationRegistry.revokeAll(userId);
+        });
+    }
+
+    // Flushes run inside the transaction, often while it commits; the synchronization still fires after it
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
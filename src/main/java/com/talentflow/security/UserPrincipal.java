@@ -13,44 +13,67 @@ public class UserPrincipal implements UserDetails {
 
     private Long id;
     private String email;
+    private String fullName;
     private String password;
     private Role role;
     private Boolean isActive;
+    private Integer tokenVersion;
     private Collection<? extends GrantedAuthority> authorities;
 
-    public UserPrincipal(Long id, String email, String password, Role role, Boolean isActive,
-                         Collection<? extends GrantedAuthority> authorities) {
+    public UserPrincipal(Long id, String email, String fullName, String password, Role role, Boolean isActive,
+                         Integer tokenVersion, Collection<? extends GrantedAuthority> authorities) {
         this.id = id;
         this.email = email;
+        this.fullName = fullName;
         this.password = password;
         this.role = role;
         this.isActive = isActive;
+        this.tokenVersion = tokenVersion;
         this.authorities = authorities;
     }
 
     public static UserPrincipal create(User user) {
-        Collection<GrantedAuthority> authorities = Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-        );
-
         return new UserPrincipal(
                 user.getId(),
                 user.getEmail(),
+                user.getFullName(),
                 user.getPassword(),
                 user.getRole(),
                 user.getIsActive(),
-                authorities
+                user.getTokenVersion(),
+                authoritiesFor(user.getRole())
         );
     }
 
+    public static UserPrincipal fromClaims(Long id, String email, Role role, Integer tokenVersion) {
+        return new UserPrincipal(id, email, null, null, role, true, tokenVersion, authoritiesFor(role));
+    }
+
+    public UserPrincipal withPassword(String password) {
+        return new UserPrincipal(id, email, fullName, password, role, isActive, tokenVersion, authorities);
+    }
+
+    private static Collection<GrantedAuthority> authoritiesFor(Role role) {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
     public Long getId() {
         return id;
     }
 
+    // Not carried by stateless tokens (see fromClaims)
+    public String getFullName() {
+        return fullName;
+    }
+
     public Role getRole() {
         return role;
     }
 
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
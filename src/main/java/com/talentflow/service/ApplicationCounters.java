@@ -0,0 +1,177 @@
+package com.talentflow.service;
+
+import com.talentflow.enums.ApplicationStatus;
+import com.talentflow.repository.ApplicationRepository;
+import com.talentflow.repository.projection.ApplicationCountRow;
+import com.talentflow.service.search.JobChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live application counts per job and status, so job cards can show the hiring funnel without a
+ * COUNT query. Counters move after the transaction that created or moved an application commits,
+ * and are reconciled with the database at startup and periodically to correct drift from changes
+ * made by other nodes or directly in the database.
+ */
+@Component
+public class ApplicationCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationCounters.class);
+
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Value("${applications.counters.enabled:true}")
+    private boolean enabled;
+
+    private final Map<Long, JobCounts> counts = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    // Until the first reconciliation (or with counters disabled) the counts come from the database
+    public Map<ApplicationStatus, Long> getCounts(Long jobId) {
+        Map<ApplicationStatus, Long> result = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : STATUSES) {
+            result.put(status, 0L);
+        }
+        if (!isReady()) {
+            for (ApplicationCountRow row : applicationRepository.countByJobIdInGroupByStatus(List.of(jobId))) {
+                result.put(row.getStatus(), row.getCount());
+            }
+            return result;
+        }
+
+        JobCounts jobCounts = counts.get(jobId);
+        if (jobCounts != null) {
+            for (ApplicationStatus status : STATUSES) {
+                result.put(status, jobCounts.byStatus[status.ordinal()].sum());
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(ApplicationStatusChangedEvent event) {
+        if (!enabled || event.previous() == event.status()) {
+            return;
+        }
+
+        JobCounts jobCounts = counts.computeIfAbsent(event.jobId(), jobId -> new JobCounts());
+        if (event.previous() != null) {
+            jobCounts.byStatus[event.previous().ordinal()].decrement();
+        }
+        jobCounts.byStatus[event.status().ordinal()].increment();
+        jobCounts.lastChanged.set(System.nanoTime());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        // Applications are deleted or archived with the job, so their counters go too
+        if (event.isDeleted()) {
+            counts.remove(event.jobId());
+        }
+    }
+
+    // For changes whose per-row previous status is unknown, like bulk updates; call after they commit
+    public void reload(Collection<Long> jobIds) {
+        if (!enabled || jobIds.isEmpty()) {
+            return;
+        }
+        replace(applicationRepository.countByJobIdInGroupByStatus(jobIds), jobIds, Long.MAX_VALUE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${applications.counters.reconcile-ms:300000}",
+               initialDelayString = "${applications.counters.reconcile-ms:300000}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            int corrected = replace(applicationRepository.countGroupByJobAndStatus(), counts.keySet(), started);
+            ready = true;
+            logger.info("Application counters reconciled in {} ms: {} jobs, {} corrected",
+                    (System.nanoTime() - started) / 1_000_000, counts.size(), corrected);
+        } catch (RuntimeException ex) {
+            logger.error("Application counter reconciliation failed, keeping the current counts", ex);
+        }
+    }
+
+    /**
+     * Sets the counters of the given jobs (plus any job in the rows) to the loaded values. Jobs
+     * whose counters moved after loadStarted are skipped: the rows may or may not include that
+     * change, so they are left for the next round.
+     */
+    private int replace(Iterable<ApplicationCountRow> rows, Collection<Long> jobIds, long loadStarted) {
+        Map<Long, long[]> loaded = new HashMap<>();
+        for (Long jobId : jobIds) {
+            loaded.put(jobId, new long[STATUSES.length]);
+        }
+        for (ApplicationCountRow row : rows) {
+            loaded.computeIfAbsent(row.getJobId(), jobId -> new long[STATUSES.length])[row.getStatus().ordinal()] = row.getCount();
+        }
+
+        int corrected = 0;
+        for (Map.Entry<Long, long[]> entry : loaded.entrySet()) {
+            long[] values = entry.getValue();
+            boolean empty = Arrays.stream(values).allMatch(value -> value == 0);
+            JobCounts jobCounts = empty ? counts.get(entry.getKey()) : counts.computeIfAbsent(entry.getKey(), jobId -> new JobCounts());
+            if (jobCounts == null || jobCounts.lastChanged.get() > loadStarted) {
+                continue;
+            }
+            if (empty) {
+                // No applications left, typically a deleted job
+                counts.remove(entry.getKey(), jobCounts);
+                continue;
+            }
+            boolean changed = false;
+            for (int i = 0; i < values.length; i++) {
+                long delta = values[i] - jobCounts.byStatus[i].sum();
+                if (delta != 0) {
+                    jobCounts.byStatus[i].add(delta);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    private static final class JobCounts {
+        private final LongAdder[] byStatus = new LongAdder[STATUSES.length];
+        private final AtomicLong lastChanged = new AtomicLong(Long.MIN_VALUE);
+
+        JobCounts() {
+            for (int i = 0; i < byStatus.length; i++) {
+                byStatus[i] = new LongAdder();
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.talentflow.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentflow.dto.response.ApplicationResponse;
+import com.talentflow.enums.ExportFormat;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the applications of a job straight from a forward-only cursor to the response, so heap
+ * use does not depend on the number of applicants. Writes block while the client is slow and
+ * fail once it disconnects, which closes the cursor.
+ */
+@Service
+public class ApplicationExportService {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private static final String CSV_HEADER =
+            "id,candidateId,candidateName,candidateEmail,jobId,jobTitle,status,resumeLink,appliedAt";
+
+    private static final String EXPORT_QUERY =
+            "SELECT new com.talentflow.dto.response.ApplicationResponse(a.id, c.id, c.fullName, c.email, " +
+            "j.id, j.title, a.status, a.resumeLink, a.appliedAt) " +
+            "FROM Application a JOIN a.candidate c JOIN a.job j WHERE j.id = :jobId ORDER BY a.id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Integer.MIN_VALUE makes MySQL stream this one result row by row instead of buffering it;
+    // every other query keeps the driver's default buffered reads
+    @Value("${applications.export.fetch-size:-2147483648}")
+    private int fetchSize;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long exportApplicationsByJob(Long jobId, ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long rows = 0;
+        try (Stream<ApplicationResponse> applications = entityManager.createQuery(EXPORT_QUERY, ApplicationResponse.class)
+                .setParameter("jobId", jobId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream()) {
+            Iterator<ApplicationResponse> iterator = applications.iterator();
+            while (iterator.hasNext()) {
+                ApplicationResponse application = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, application);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(application));
+                    writer.write('\n');
+                }
+
+                if (++rows % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        return rows;
+    }
+
+    private void writeCsvRow(Writer writer, ApplicationResponse application) throws IOException {
+        writer.write(String.valueOf(application.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(application.getCandidateId()));
+        writer.write(',');
+        writer.write(csv(application.getCandidateName()));
+        writer.write(',');
+        writer.write(csv(application.getCandidateEmail()));
+        writer.write(',');
+        writer.write(String.valueOf(application.getJobId()));
+        writer.write(',');
+        writer.write(csv(application.getJobTitle()));
+        writer.write(',');
+        writer.write(application.getStatus().name());
+        writer.write(',');
+        writer.write(csv(application.getResumeLink()));
+        writer.write(',');
+        writer.write(String.valueOf(application.getAppliedAt()));
+        writer.write('\n');
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,31 +1,49 @@
 package com.talentflow.service;
 
 import com.talentflow.dto.request.ApplicationRequest;
+import com.talentflow.dto.request.BulkUpdateApplicationStatusRequest;
 import com.talentflow.dto.request.UpdateApplicationStatusRequest;
+import com.talentflow.dto.response.ApplicationFunnelResponse;
 import com.talentflow.dto.response.ApplicationResponse;
+import com.talentflow.dto.response.BulkStatusUpdateResponse;
 import com.talentflow.entity.Application;
-import com.talentflow.entity.Job;
-import com.talentflow.entity.User;
 import com.talentflow.enums.ApplicationStatus;
 import com.talentflow.enums.JobStatus;
+import com.talentflow.enums.Role;
 import com.talentflow.exception.ResourceNotFoundException;
 import com.talentflow.exception.UnauthorizedAccessException;
 import com.talentflow.exception.ValidationException;
 import com.talentflow.repository.ApplicationRepository;
 import com.talentflow.repository.JobRepository;
-import com.talentflow.repository.UserRepository;
-import com.talentflow.security.UserPrincipal;
+import com.talentflow.repository.projection.ApplicationRow;
+import com.talentflow.repository.projection.ApplyTarget;
+import com.talentflow.repository.projection.JobOwnership;
+import com.talentflow.security.CurrentUser;
+import com.talentflow.service.outbox.OutboxService;
+import io.micrometer.core.annotation.Timed;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "talentflow.service", description = "Service method latency", histogram = true)
 public class ApplicationService {
 
     private static final Logger logger = LoggerFactory.getLogger(ApplicationService.class);
@@ -37,85 +55,208 @@ public class ApplicationService {
     private JobRepository jobRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private CurrentUser currentUser;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationCounters applicationCounters;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Value("${applications.bulk.chunk-size:1000}")
+    private int bulkChunkSize;
+
+    /**
+     * Inserts the application straight away and lets the unique_application constraint turn a
+     * second attempt by the same candidate into "already applied", so concurrent submits cannot
+     * both pass a check-then-insert. The job and the candidate are referenced, not loaded.
+     */
     @Transactional
     public ApplicationResponse applyForJob(Long jobId, ApplicationRequest request) {
-        UserPrincipal userPrincipal = (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User candidate = userRepository.findById(userPrincipal.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        if (!candidate.getRole().name().equals("CANDIDATE")) {
+        if (currentUser.getRole() != Role.CANDIDATE) {
             throw new UnauthorizedAccessException("Only candidates can apply for jobs");
         }
 
-        Job job = jobRepository.findById(jobId)
+        ApplyTarget target = applicationRepository.findApplyTarget(jobId, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
 
-        if (job.getStatus() != JobStatus.OPEN) {
+        // An expired job counts as closed even before JobExpiryService gets to it
+        if (target.getJobStatus() != JobStatus.OPEN
+                || (target.getJobExpiresAt() != null && !target.getJobExpiresAt().isAfter(LocalDateTime.now()))) {
             throw new ValidationException("Cannot apply for a closed job");
         }
 
-        if (applicationRepository.findByCandidate_IdAndJob_Id(candidate.getId(), jobId).isPresent()) {
-            throw new ValidationException("You have already applied for this job");
-        }
-
         Application application = new Application();
-        application.setCandidate(candidate);
-        application.setJob(job);
+        application.setCandidate(currentUser.getUser());
+        application.setJob(jobRepository.getReferenceById(jobId));
         application.setStatus(ApplicationStatus.APPLIED);
         application.setResumeLink(request.getResumeLink());
 
-        application = applicationRepository.save(application);
-        logger.info("Application created successfully: Candidate {} applied for Job {}", 
-                candidate.getEmail(), job.getTitle());
+        try {
+            application = applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateApplication(ex)) {
+                throw new ValidationException("You have already applied for this job");
+            }
+            throw ex;
+        }
+        outboxService.applicationSubmitted(application);
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(jobId, null, ApplicationStatus.APPLIED));
+        logger.info("Application created successfully: Candidate {} applied for Job {}",
+                currentUser.getEmail(), target.getJobTitle());
 
-        return convertToResponse(application);
+        return new ApplicationResponse(application.getId(), currentUser.getId(), target.getCandidateName(),
+                currentUser.getEmail(), jobId, target.getJobTitle(), application.getStatus(),
+                application.getResumeLink(), application.getAppliedAt());
+    }
+
+    private boolean isDuplicateApplication(DataIntegrityViolationException ex) {
+        // MySQL reports "unique_application" (or "applications.unique_application"), H2 its index name built from it
+        return ex.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains("unique_application");
     }
 
+    @Transactional(readOnly = true)
     public List<ApplicationResponse> getMyApplications() {
-        UserPrincipal userPrincipal = (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        List<Application> applications = applicationRepository.findByCandidate_Id(userPrincipal.getId());
+        List<Application> applications = applicationRepository.findByCandidate_Id(currentUser.getId());
         return applications.stream().map(this::convertToResponse).collect(Collectors.toList());
     }
 
-    public List<ApplicationResponse> getApplicationsByJob(Long jobId) {
-        UserPrincipal userPrincipal = (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User user = userRepository.findById(userPrincipal.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    @Transactional(readOnly = true)
+    public Page<ApplicationResponse> getApplicationsByJob(Long jobId, ApplicationStatus status, Pageable pageable) {
+        String jobTitle = checkJobAccess(jobId);
 
-        Job job = jobRepository.findById(jobId)
+        return applicationRepository.findRowsByJobId(jobId, status, pageable)
+                .map(row -> convertToResponse(row, jobId, jobTitle));
+    }
+
+    // Returns the job title so listings do not have to join the job for every row
+    public String checkJobAccess(Long jobId) {
+        JobOwnership job = jobRepository.findOwnershipById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
 
-        if (!job.getPostedBy().getId().equals(user.getId()) && !user.getRole().name().equals("ADMIN")) {
+        if (!currentUser.isSelf(job.getPostedById()) && !currentUser.isAdmin()) {
             throw new UnauthorizedAccessException("You can only view applications for your own jobs");
         }
+        return job.getTitle();
+    }
 
-        List<Application> applications = applicationRepository.findByJob_Id(jobId);
-        return applications.stream().map(this::convertToResponse).collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public ApplicationFunnelResponse getApplicationFunnel(Long jobId) {
+        checkJobAccess(jobId);
+        Map<ApplicationStatus, Long> counts = applicationCounters.getCounts(jobId);
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        return new ApplicationFunnelResponse(jobId, counts, total);
     }
 
     @Transactional
     public ApplicationResponse updateApplicationStatus(Long applicationId, UpdateApplicationStatusRequest request) {
-        UserPrincipal userPrincipal = (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User user = userRepository.findById(userPrincipal.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        Application application = applicationRepository.findById(applicationId)
+        Application application = applicationRepository.findWithJobAndCandidateById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found with id: " + applicationId));
 
-        if (!application.getJob().getPostedBy().getId().equals(user.getId()) && 
-            !user.getRole().name().equals("ADMIN")) {
+        if (!currentUser.isSelf(application.getJob().getPostedBy().getId()) && !currentUser.isAdmin()) {
             throw new UnauthorizedAccessException("You can only update applications for your own jobs");
         }
 
+        ApplicationStatus previousStatus = application.getStatus();
         application.setStatus(request.getStatus());
         application = applicationRepository.save(application);
+        if (previousStatus != request.getStatus()) {
+            outboxService.applicationStatusChanged(application, previousStatus);
+        }
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(
+                application.getJob().getId(), previousStatus, request.getStatus()));
         logger.info("Application status updated: {} to {}", applicationId, request.getStatus());
 
         return convertToResponse(application);
     }
 
+    public BulkStatusUpdateResponse bulkUpdateApplicationStatus(BulkUpdateApplicationStatusRequest request) {
+        boolean isAdmin = currentUser.isAdmin();
+        List<Long> applicationIds = request.getApplicationIds();
+        boolean byIds = applicationIds != null && !applicationIds.isEmpty();
+
+        if (byIds == (request.getJobId() != null)) {
+            throw new ValidationException("Provide either applicationIds or jobId");
+        }
+        if (request.getStatus() == request.getCurrentStatus()) {
+            throw new ValidationException("Current status and target status must differ");
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int updated = 0;
+
+        if (byIds) {
+            List<Long> ids = applicationIds.stream().distinct().toList();
+            long visible = isAdmin
+                    ? applicationRepository.countByIdIn(ids)
+                    : applicationRepository.countByIdInAndJobPostedBy(ids, currentUser.getId());
+            if (visible != ids.size()) {
+                throw new UnauthorizedAccessException("You can only update applications for your own jobs");
+            }
+
+            String currentStatus = request.getCurrentStatus() == null ? null : request.getCurrentStatus().name();
+            for (int from = 0; from < ids.size(); from += bulkChunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + bulkChunkSize, ids.size()));
+                updated += transactionTemplate.execute(status -> changeStatus(applicationRepository
+                        .lockIdsForStatusChange(chunk, currentStatus, request.getStatus().name()), request.getStatus()));
+            }
+            if (updated > 0) {
+                applicationCounters.reload(applicationRepository.findJobIdsByIdIn(ids));
+            }
+            logger.info("Bulk status update: {} of {} applications set to {}", updated, ids.size(), request.getStatus());
+            return new BulkStatusUpdateResponse(request.getStatus(), ids.size(), updated, ids.size() - updated);
+        }
+
+        Long jobId = request.getJobId();
+        boolean allowed = isAdmin
+                ? jobRepository.existsById(jobId)
+                : jobRepository.existsByIdAndPostedBy_Id(jobId, currentUser.getId());
+        if (!allowed) {
+            throw new UnauthorizedAccessException("You can only update applications for your own jobs");
+        }
+
+        String currentStatus = request.getCurrentStatus() == null ? null : request.getCurrentStatus().name();
+        int chunkUpdated;
+        do {
+            chunkUpdated = transactionTemplate.execute(status -> changeStatus(applicationRepository
+                    .lockIdsByJobForStatusChange(jobId, currentStatus, request.getStatus().name(), bulkChunkSize),
+                    request.getStatus()));
+            updated += chunkUpdated;
+        } while (chunkUpdated == bulkChunkSize);
+
+        if (updated > 0) {
+            applicationCounters.reload(List.of(jobId));
+        }
+        logger.info("Bulk status update: {} applications of job {} set to {}", updated, jobId, request.getStatus());
+        return new BulkStatusUpdateResponse(request.getStatus(), updated, updated, 0);
+    }
+
+    /**
+     * Moves applications locked by the caller's transaction to a new status, writing an outbox event for
+     * each of them first so the events still see the previous status. Counters are left to the caller.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int changeStatus(List<Long> lockedIds, ApplicationStatus status) {
+        if (lockedIds.isEmpty()) {
+            return 0;
+        }
+        outboxService.applicationStatusesChanging(lockedIds, status);
+        return applicationRepository.updateStatusByIdIn(lockedIds, status.name());
+    }
+
+    private ApplicationResponse convertToResponse(ApplicationRow row, Long jobId, String jobTitle) {
+        return new ApplicationResponse(row.getId(), row.getCandidateId(), row.getCandidateName(),
+                row.getCandidateEmail(), jobId, jobTitle, row.getStatus(), row.getResumeLink(), row.getAppliedAt());
+    }
+
     private ApplicationResponse convertToResponse(Application application) {
         ApplicationResponse response = new ApplicationResponse();
         response.setId(application.getId());
@@ -0,0 +1,10 @@
+package com.talentflow.service;
+
+import com.talentflow.enums.ApplicationStatus;
+
+/**
+ * Published when an application is created or moves to another status. A null previous status
+ * means the application is new.
+ */
+public record ApplicationStatusChangedEvent(Long jobId, ApplicationStatus previous, ApplicationStatus status) {
+}
@@ -7,11 +7,14 @@ import com.talentflow.entity.User;
 import com.talentflow.enums.Role;
 import com.talentflow.exception.ValidationException;
 import com.talentflow.repository.UserRepository;
+import com.talentflow.security.CurrentUser;
 import com.talentflow.security.JwtTokenProvider;
 import com.talentflow.security.UserPrincipal;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -21,6 +24,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed(value = "talentflow.service", description = "Service method latency", histogram = true)
 public class AuthService {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
@@ -37,7 +41,11 @@ public class AuthService {
     @Autowired
     private AuthenticationManager authenticationManager;
 
-    @Transactional
+    @Autowired
+    private CurrentUser currentUser;
+
+    // Not one transaction: the password is hashed before a connection is taken, and the unique email
+    // column catches a registration racing past the existence check
     public AuthResponse register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new ValidationException("Email already exists");
@@ -50,16 +58,20 @@ public class AuthService {
         user.setRole(request.getRole());
         user.setIsActive(true);
 
-        user = userRepository.save(user);
+        try {
+            user = userRepository.save(user);
+        } catch (DataIntegrityViolationException ex) {
+            throw new ValidationException("Email already exists");
+        }
         logger.info("User registered successfully: {}", user.getEmail());
 
         UserPrincipal userPrincipal = UserPrincipal.create(user);
-        String token = tokenProvider.generateToken(userPrincipal, user.getRole().name());
+        String token = tokenProvider.generateToken(userPrincipal);
 
         return new AuthResponse(token, user.getEmail(), user.getRole(), user.getFullName(), user.getId());
     }
 
-    @Transactional
+    // Not transactional either, so no connection is held while the password is checked
     public AuthResponse login(LoginRequest request) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
@@ -68,14 +80,21 @@ public class AuthService {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 
-        String token = tokenProvider.generateToken(userPrincipal, userPrincipal.getRole().name());
+        String token = tokenProvider.generateToken(userPrincipal);
+        logger.info("User logged in successfully: {}", userPrincipal.getUsername());
 
-        User user = userRepository.findByEmail(userPrincipal.getUsername())
-                .orElseThrow(() -> new ValidationException("User not found"));
+        return new AuthResponse(token, userPrincipal.getUsername(), userPrincipal.getRole(),
+                userPrincipal.getFullName(), userPrincipal.getId());
+    }
 
-        logger.info("User logged in successfully: {}", user.getEmail());
+    @Transactional
+    public void logout() {
+        User user = userRepository.findById(currentUser.getId())
+                .orElseThrow(() -> new ValidationException("User not found"));
 
-        return new AuthResponse(token, user.getEmail(), user.getRole(), user.getFullName(), user.getId());
+        // Bumping the version revokes every token issued to the user so far
+        user.revokeTokens();
+        userRepository.save(user);
+        logger.info("User logged out: {}", user.getEmail());
     }
 }
-
@@ -0,0 +1,20 @@
+package com.talentflow.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Modification version and time of a resource, the source of its ETag and Last-Modified headers.
+ */
+public record ContentVersion(long version, LocalDateTime updatedAt) {
+
+    // Spring adds the surrounding quotes
+    public String etag(String resource) {
+        return resource + "-" + version;
+    }
+
+    // -1 tells Spring there is no Last-Modified value
+    public long lastModified() {
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
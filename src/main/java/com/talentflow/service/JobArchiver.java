@@ -0,0 +1,138 @@
+package com.talentflow.service;
+
+import com.talentflow.dto.response.JobArchiveStatsResponse;
+import com.talentflow.enums.JobStatus;
+import com.talentflow.exception.ServiceUnavailableException;
+import com.talentflow.repository.JobArchiveRepository;
+import com.talentflow.repository.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves jobs that have been closed for jobs.archive.closed-for, with their skills and applications,
+ * into the archive tables, so the live tables and everything that scans them only hold current
+ * postings. Runs batch by batch through {@link JobDeletionService}, at most max-batches-per-run
+ * batches per run, on one node at a time under a lease.
+ */
+@Component
+public class JobArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobArchiver.class);
+
+    private static final String LEASE = "job-archive";
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobArchiveRepository jobArchiveRepository;
+
+    @Autowired
+    private JobDeletionService jobDeletionService;
+
+    @Autowired
+    private SchedulerLeases schedulerLeases;
+
+    @Value("${jobs.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${jobs.archive.closed-for:30d}")
+    private Duration closedFor;
+
+    @Value("${jobs.archive.batch-size:100}")
+    private int batchSize;
+
+    @Value("${jobs.archive.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${jobs.archive.lease:30m}")
+    private Duration lease;
+
+    private volatile LocalDateTime lastRunAt;
+    private volatile long lastRunJobs;
+    private volatile long lastRunApplications;
+    private volatile long lastRunMillis;
+    private volatile String lastRunError;
+
+    @Scheduled(fixedDelayString = "${jobs.archive.interval-ms:3600000}",
+               initialDelayString = "${jobs.archive.interval-ms:3600000}")
+    public void archiveClosedJobs() {
+        if (enabled && schedulerLeases.tryAcquire(LEASE, lease)) {
+            try {
+                archive();
+            } finally {
+                schedulerLeases.release(LEASE);
+            }
+        }
+    }
+
+    public JobArchiveStatsResponse run() {
+        if (!schedulerLeases.tryAcquire(LEASE, lease)) {
+            throw new ServiceUnavailableException("Job archiving is already running, please retry later");
+        }
+        try {
+            archive();
+        } finally {
+            schedulerLeases.release(LEASE);
+        }
+        return getStats();
+    }
+
+    private void archive() {
+        long started = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minus(closedFor);
+        AtomicLong applications = new AtomicLong();
+        long jobs = 0;
+        String error = null;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<Long> ids = jobRepository.findIdsByStatusUpdatedBefore(JobStatus.CLOSED, cutoff, Limit.of(batchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                jobDeletionService.removeApplications(ids, true, applications::addAndGet);
+                jobs += jobDeletionService.removeJobs(ids, true, applications::addAndGet);
+                if (ids.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            error = ex.getMessage();
+            logger.error("Job archiving failed after {} jobs", jobs, ex);
+        }
+
+        lastRunAt = LocalDateTime.now();
+        lastRunJobs = jobs;
+        lastRunApplications = applications.get();
+        lastRunMillis = (System.nanoTime() - started) / 1_000_000;
+        lastRunError = error;
+        if (jobs > 0) {
+            logger.info("Archived {} jobs closed for more than {} with {} applications in {} ms",
+                    jobs, closedFor, lastRunApplications, lastRunMillis);
+        }
+    }
+
+    public JobArchiveStatsResponse getStats() {
+        JobArchiveStatsResponse stats = new JobArchiveStatsResponse();
+        stats.setEnabled(enabled);
+        stats.setClosedFor(closedFor.toString());
+        stats.setArchivedJobs(jobArchiveRepository.count());
+        stats.setArchivedApplications(jobArchiveRepository.countApplications());
+        stats.setLastRunAt(lastRunAt);
+        stats.setLastRunJobs(lastRunJobs);
+        stats.setLastRunApplications(lastRunApplications);
+        stats.setLastRunMillis(lastRunMillis);
+        stats.setLastRunError(lastRunError);
+        return stats;
+    }
+}
@@ -0,0 +1,144 @@
+package com.talentflow.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.talentflow.dto.response.CacheStatsResponse;
+import com.talentflow.dto.response.JobResponse;
+import com.talentflow.service.search.JobChangedEvent;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for job reads: single jobs by id and the first pages of listing and search
+ * queries. After a job change commits, only that job's entry and the query pages whose filters
+ * match the job before or after the change are dropped; the TTL bounds staleness for changes
+ * made by other nodes. With read replicas, loads during the replica lag bound after a change are
+ * served but not cached.
+ */
+@Component
+public class JobCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobCache.class);
+
+    @Value("${jobs.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${jobs.cache.max-jobs:10000}")
+    private long maxJobs;
+
+    @Value("${jobs.cache.max-queries:2000}")
+    private long maxQueries;
+
+    @Value("${jobs.cache.ttl:60s}")
+    private Duration ttl;
+
+    @Value("${jobs.cache.max-cached-page:4}")
+    private int maxCachedPage;
+
+    @Value("${replicas.enabled:false}")
+    private boolean replicasEnabled;
+
+    @Value("${replicas.max-lag:5s}")
+    private Duration replicaMaxLag;
+
+    private volatile long lastChangeNanos;
+
+    private AsyncCache<Long, JobResponse> jobs;
+    private AsyncCache<JobQuery, VersionedPage> queries;
+
+    @PostConstruct
+    public void init() {
+        jobs = Caffeine.newBuilder().maximumSize(maxJobs).expireAfterWrite(ttl).recordStats().buildAsync();
+        queries = Caffeine.newBuilder().maximumSize(maxQueries).expireAfterWrite(ttl).recordStats().buildAsync();
+        lastChangeNanos = System.nanoTime() - replicaMaxLag.toNanos();
+    }
+
+    public JobResponse getJob(Long id, Supplier<JobResponse> loader) {
+        if (!enabled || settling()) {
+            return loader.get();
+        }
+        return load(jobs, id, loader);
+    }
+
+    // Deep pages are rarely requested twice, caching them would only push out the first pages
+    public VersionedPage getPage(JobQuery query, Supplier<VersionedPage> loader) {
+        if (!enabled || query.page() > maxCachedPage || settling()) {
+            return loader.get();
+        }
+        return load(queries, query, loader);
+    }
+
+    // Right after a change, a replica may not have it yet; what it returns must not be kept for the whole TTL
+    private boolean settling() {
+        return replicasEnabled && System.nanoTime() - lastChangeNanos < replicaMaxLag.toNanos();
+    }
+
+    /**
+     * Concurrent misses on a key still share one load, but the load runs in the calling thread after
+     * the map entry is in place rather than inside the map's compute (a synchronized block), so a
+     * slow query neither blocks other keys of the same bin nor pins a virtual thread's carrier.
+     * A failed load is dropped from the cache and rethrown to every waiter.
+     */
+    private static <K, V> V load(AsyncCache<K, V> cache, K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loader.get());
+            } catch (RuntimeException ex) {
+                created.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        lastChangeNanos = System.nanoTime();
+        jobs.synchronous().invalidate(event.jobId());
+        int before = queries.asMap().size();
+        queries.asMap().keySet().removeIf(query ->
+                (event.previous() != null && query.matches(event.previous()))
+                        || (event.document() != null && query.matches(event.document())));
+        logger.debug("Job {} changed, dropped {} cached query pages", event.jobId(), before - queries.asMap().size());
+    }
+
+    public void clear() {
+        jobs.synchronous().invalidateAll();
+        queries.synchronous().invalidateAll();
+    }
+
+    public CacheStatsResponse getJobStats() {
+        return toResponse(jobs.synchronous().estimatedSize(), jobs.synchronous().stats());
+    }
+
+    public CacheStatsResponse getQueryStats() {
+        return toResponse(queries.synchronous().estimatedSize(), queries.synchronous().stats());
+    }
+
+    private static CacheStatsResponse toResponse(long size, CacheStats stats) {
+        return CacheStatsResponse.of(size, stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+}
@@ -0,0 +1,35 @@
+package com.talentflow.service;
+
+import com.talentflow.exception.ValidationException;
+import com.talentflow.repository.projection.JobRow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position in the (createdAt DESC, id DESC) job ordering.
+ */
+public record JobCursor(LocalDateTime createdAt, Long id) {
+
+    public static JobCursor after(JobRow job) {
+        return new JobCursor(job.getCreatedAt(), job.getId());
+    }
+
+    public static JobCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            return new JobCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
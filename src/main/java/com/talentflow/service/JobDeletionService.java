@@ -0,0 +1,306 @@
+package com.talentflow.service;
+
+import com.talentflow.dto.response.JobDeletionResponse;
+import com.talentflow.entity.Job;
+import com.talentflow.enums.JobDeletionStatus;
+import com.talentflow.enums.JobStatus;
+import com.talentflow.exception.ResourceNotFoundException;
+import com.talentflow.exception.UnauthorizedAccessException;
+import com.talentflow.repository.ApplicationRepository;
+import com.talentflow.repository.JobArchiveRepository;
+import com.talentflow.repository.JobRepository;
+import com.talentflow.repository.JobTombstoneRepository;
+import com.talentflow.security.CurrentUser;
+import com.talentflow.service.search.JobChangedEvent;
+import com.talentflow.service.search.JobDocument;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Deletes jobs without loading their applications into the persistence context. Applications go
+ * in chunks of jobs.deletion.chunk-size ids, each chunk in its own transaction, so no statement
+ * locks more than a chunk of rows; the job and its skills go last. An open job is closed first so
+ * nobody applies while its applications are removed. With jobs.deletion.archive the rows are moved
+ * to the archive tables instead of deleted.
+ *
+ * A deletion runs in the request, or in the background one job at a time, with its progress kept
+ * in memory on the node that runs it.
+ */
+@Service
+@Timed(value = "talentflow.service", description = "Service method latency", histogram = true)
+public class JobDeletionService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobDeletionService.class);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JobArchiveRepository jobArchiveRepository;
+
+    @Autowired
+    private JobTombstoneRepository jobTombstoneRepository;
+
+    @Autowired
+    private ListingVersionService listingVersionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CurrentUser currentUser;
+
+    @Value("${jobs.deletion.chunk-size:1000}")
+    private int chunkSize;
+
+    // Gives replicas time to apply one chunk before the next arrives
+    @Value("${jobs.deletion.chunk-pause:0ms}")
+    private Duration chunkPause;
+
+    @Value("${jobs.deletion.archive:false}")
+    private boolean archive;
+
+    @Value("${jobs.deletion.retained-tasks:100}")
+    private int retainedTasks;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-deletion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Insertion ordered, so the oldest finished tasks are forgotten first
+    private final Map<String, Task> tasks = new LinkedHashMap<>();
+
+    public JobDeletionResponse deleteJob(Long id, boolean background) {
+        long applications = close(id);
+        Task task = new Task(UUID.randomUUID().toString(), id, currentUser.getId(), archive, applications);
+
+        if (!background) {
+            task.start();
+            remove(task);
+            task.complete();
+            return task.toResponse();
+        }
+
+        register(task);
+        executor.execute(() -> {
+            task.start();
+            try {
+                remove(task);
+                task.complete();
+            } catch (RuntimeException ex) {
+                logger.error("Background deletion of job {} failed after {} applications", id, task.removed.get(), ex);
+                task.fail(ex);
+            }
+        });
+        return task.toResponse();
+    }
+
+    public JobDeletionResponse getDeletion(String taskId) {
+        Task task;
+        synchronized (tasks) {
+            task = tasks.get(taskId);
+        }
+        if (task == null) {
+            throw new ResourceNotFoundException("Job deletion not found with id: " + taskId);
+        }
+        if (!currentUser.isSelf(task.requestedBy) && !currentUser.isAdmin()) {
+            throw new UnauthorizedAccessException("You can only view your own job deletions");
+        }
+        return task.toResponse();
+    }
+
+    /**
+     * Removes the applications of the given jobs chunk by chunk and returns how many there were.
+     * Applications submitted afterwards are picked up by {@link #removeJobs}.
+     */
+    public long removeApplications(Collection<Long> jobIds, boolean archive, LongConsumer progress) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long removed = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> removeApplicationChunk(jobIds, archive));
+            removed += chunk;
+            progress.accept(chunk);
+            if (chunk == chunkSize) {
+                pause();
+            }
+        } while (chunk == chunkSize);
+        return removed;
+    }
+
+    // Removes what is left of the jobs' applications, then the jobs and their skills, in one transaction
+    public int removeJobs(Collection<Long> jobIds, boolean archive, LongConsumer progress) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            int late;
+            do {
+                late = removeApplicationChunk(jobIds, archive);
+                progress.accept(late);
+            } while (late == chunkSize);
+
+            List<JobDocument> documents = JobDocument.fromRows(jobRepository.findJobRowsByIdIn(jobIds),
+                    jobRepository.findSkillRows(jobIds));
+            if (documents.isEmpty()) {
+                return 0;
+            }
+            List<Long> ids = documents.stream().map(JobDocument::id).toList();
+            if (archive) {
+                jobArchiveRepository.copyJobs(ids, LocalDateTime.now());
+                jobArchiveRepository.copySkills(ids);
+            }
+            // Other nodes' search indexes learn of the removal from these
+            jobTombstoneRepository.insertForJobs(ids, LocalDateTime.now());
+            // Removed one by one so the second-level cache drops just these jobs, not the whole region
+            List<Job> jobs = jobRepository.findAllById(ids);
+            jobRepository.deleteAll(jobs);
+
+            listingVersionService.bumpJobs();
+            documents.forEach(document -> eventPublisher.publishEvent(JobChangedEvent.deleted(document)));
+            return jobs.size();
+        });
+    }
+
+    private long close(Long id) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Job job = jobRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
+
+            if (!currentUser.isSelf(job.getPostedBy().getId()) && !currentUser.isAdmin()) {
+                throw new UnauthorizedAccessException("You can only delete your own jobs");
+            }
+
+            if (job.getStatus() == JobStatus.OPEN) {
+                JobDocument previous = JobDocument.from(job);
+                job.setStatus(JobStatus.CLOSED);
+                listingVersionService.bumpJobs();
+                eventPublisher.publishEvent(JobChangedEvent.updated(previous, job));
+            }
+            return applicationRepository.countByJob_Id(id);
+        });
+    }
+
+    private void remove(Task task) {
+        long started = System.nanoTime();
+        List<Long> jobIds = List.of(task.jobId);
+        removeApplications(jobIds, task.archived, task.removed::addAndGet);
+        removeJobs(jobIds, task.archived, task.removed::addAndGet);
+        logger.info("Job {} {} with {} applications in {} ms", task.jobId, task.archived ? "archived" : "deleted",
+                task.removed.get(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private int removeApplicationChunk(Collection<Long> jobIds, boolean archive) {
+        List<Long> ids = applicationRepository.findIdsByJobIdIn(jobIds, Limit.of(chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (archive) {
+            jobArchiveRepository.copyApplications(ids, LocalDateTime.now());
+        }
+        applicationRepository.deleteByIdIn(ids);
+        return ids.size();
+    }
+
+    private void pause() {
+        if (chunkPause.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPause.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while removing applications", ex);
+        }
+    }
+
+    private void register(Task task) {
+        synchronized (tasks) {
+            tasks.put(task.id, task);
+            Iterator<Task> oldest = tasks.values().iterator();
+            while (tasks.size() > retainedTasks && oldest.hasNext()) {
+                if (oldest.next().isFinished()) {
+                    oldest.remove();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static final class Task {
+        private final String id;
+        private final Long jobId;
+        private final Long requestedBy;
+        private final boolean archived;
+        private final long applicationsTotal;
+        private final AtomicLong removed = new AtomicLong();
+        private volatile JobDeletionStatus status = JobDeletionStatus.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        Task(String id, Long jobId, Long requestedBy, boolean archived, long applicationsTotal) {
+            this.id = id;
+            this.jobId = jobId;
+            this.requestedBy = requestedBy;
+            this.archived = archived;
+            this.applicationsTotal = applicationsTotal;
+        }
+
+        void start() {
+            startedAt = LocalDateTime.now();
+            status = JobDeletionStatus.RUNNING;
+        }
+
+        void complete() {
+            finishedAt = LocalDateTime.now();
+            status = JobDeletionStatus.COMPLETED;
+        }
+
+        void fail(RuntimeException ex) {
+            finishedAt = LocalDateTime.now();
+            error = ex.getMessage();
+            status = JobDeletionStatus.FAILED;
+        }
+
+        boolean isFinished() {
+            return status == JobDeletionStatus.COMPLETED || status == JobDeletionStatus.FAILED;
+        }
+
+        JobDeletionResponse toResponse() {
+            return new JobDeletionResponse(id, jobId, status, archived, applicationsTotal, removed.get(),
+                    startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.talentflow.service;
+
+import com.talentflow.enums.ApplicationStatus;
+import com.talentflow.enums.JobStatus;
+import com.talentflow.repository.ApplicationRepository;
+import com.talentflow.repository.JobRepository;
+import com.talentflow.service.search.JobChangedEvent;
+import com.talentflow.service.search.JobDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closes open jobs whose expiresAt has passed. Each tick closes at most jobs.expiry.max-per-tick
+ * jobs in batched UPDATEs, one transaction per batch, so a backlog of expired jobs is worked off
+ * over several ticks instead of in one long write. With jobs.expiry.reject-applied the applications
+ * still APPLIED on the closed jobs are moved to REJECTED in chunks. Runs on one node at a time,
+ * under a lease, so the change events only reach that node's search index; the others pick the
+ * closed jobs up at their next rebuild.
+ */
+@Component
+public class JobExpiryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobExpiryService.class);
+
+    private static final String LEASE = "job-expiry";
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationCounters applicationCounters;
+
+    @Autowired
+    private ListingVersionService listingVersionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SchedulerLeases schedulerLeases;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${jobs.expiry.enabled:true}")
+    private boolean enabled;
+
+    // Expiry given to new jobs that do not set one; zero means they never expire
+    @Value("${jobs.expiry.default-ttl:0d}")
+    private Duration defaultTtl;
+
+    @Value("${jobs.expiry.batch-size:200}")
+    private int batchSize;
+
+    @Value("${jobs.expiry.max-per-tick:1000}")
+    private int maxPerTick;
+
+    @Value("${jobs.expiry.reject-applied:false}")
+    private boolean rejectApplied;
+
+    @Value("${applications.bulk.chunk-size:1000}")
+    private int rejectChunkSize;
+
+    @Value("${jobs.expiry.lease:5m}")
+    private Duration lease;
+
+    private final LongAdder closed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder totalRunNanos = new LongAdder();
+
+    public LocalDateTime expiresAt(LocalDateTime requested) {
+        if (requested != null || defaultTtl.isZero()) {
+            return requested;
+        }
+        return LocalDateTime.now().plus(defaultTtl);
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.expiry.interval-ms:60000}", initialDelayString = "${jobs.expiry.interval-ms:60000}")
+    public void closeExpiredJobs() {
+        if (!enabled || !schedulerLeases.tryAcquire(LEASE, lease)) {
+            return;
+        }
+        try {
+            run();
+        } finally {
+            schedulerLeases.release(LEASE);
+        }
+    }
+
+    private void run() {
+        long started = System.nanoTime();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime now = LocalDateTime.now();
+        int closedJobs = 0;
+        long rejectedApplications = 0;
+        try {
+            while (closedJobs < maxPerTick) {
+                int limit = Math.min(batchSize, maxPerTick - closedJobs);
+                List<Long> ids = transactionTemplate.execute(status -> closeBatch(now, limit));
+                closedJobs += ids.size();
+                closed.add(ids.size());
+                if (rejectApplied && !ids.isEmpty()) {
+                    long batchRejected = rejectApplications(transactionTemplate, ids);
+                    rejectedApplications += batchRejected;
+                    rejected.add(batchRejected);
+                }
+                if (ids.size() < limit) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            logger.error("Closing expired jobs failed after {} jobs", closedJobs, ex);
+        } finally {
+            runs.increment();
+            totalRunNanos.add(System.nanoTime() - started);
+        }
+        if (closedJobs > 0) {
+            logger.info("Closed {} expired jobs and rejected {} applications in {} ms", closedJobs,
+                    rejectedApplications, (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    private List<Long> closeBatch(LocalDateTime now, int limit) {
+        List<Long> ids = jobRepository.findIdsByStatusExpiredAt(JobStatus.OPEN, now, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        List<JobDocument> previous = JobDocument.fromRows(jobRepository.findJobRowsByIdIn(ids),
+                jobRepository.findSkillRows(ids));
+        jobRepository.closeByIdIn(ids, LocalDateTime.now());
+        listingVersionService.bumpJobs();
+        previous.forEach(document -> eventPublisher.publishEvent(
+                JobChangedEvent.updated(document, document.withStatus(JobStatus.CLOSED))));
+        return ids;
+    }
+
+    private long rejectApplications(TransactionTemplate transactionTemplate, List<Long> jobIds) {
+        long updated = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> applicationService.changeStatus(applicationRepository
+                    .lockIdsByJobIdInAndStatus(jobIds, ApplicationStatus.APPLIED.name(), rejectChunkSize),
+                    ApplicationStatus.REJECTED));
+            updated += chunk;
+        } while (chunk == rejectChunkSize);
+        if (updated > 0) {
+            applicationCounters.reload(jobIds);
+        }
+        return updated;
+    }
+
+    public long getClosed() {
+        return closed.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getRuns() {
+        return runs.sum();
+    }
+
+    public long getTotalRunNanos() {
+        return totalRunNanos.sum();
+    }
+}
@@ -0,0 +1,211 @@
+package com.talentflow.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentflow.dto.request.JobRequest;
+import com.talentflow.dto.response.BulkImportResponse;
+import com.talentflow.dto.response.BulkJobResult;
+import com.talentflow.entity.Job;
+import com.talentflow.entity.User;
+import com.talentflow.enums.JobStatus;
+import com.talentflow.enums.Role;
+import com.talentflow.exception.UnauthorizedAccessException;
+import com.talentflow.exception.ValidationException;
+import com.talentflow.security.CurrentUser;
+import com.talentflow.security.UserPrincipal;
+import com.talentflow.service.search.JobChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bulk job import. Items are validated one by one and written in chunks, each chunk in its own
+ * transaction, so Hibernate can send job and skill rows as JDBC batches.
+ */
+@Service
+public class JobImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobImportService.class);
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ListingVersionService listingVersionService;
+
+    @Autowired
+    private CurrentUser currentUser;
+
+    @Autowired
+    private JobExpiryService jobExpiryService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${jobs.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${jobs.bulk.max-items:50000}")
+    private int maxItems;
+
+    public BulkImportResponse importJobs(List<JobRequest> requests) {
+        if (requests.size() > maxItems) {
+            throw new ValidationException("A bulk import may contain at most " + maxItems + " jobs");
+        }
+
+        ImportRun run = new ImportRun(currentRecruiter());
+        for (JobRequest request : requests) {
+            run.add(request);
+        }
+        return run.finish();
+    }
+
+    public BulkImportResponse importJobsNdjson(InputStream inputStream) throws IOException {
+        ImportRun run = new ImportRun(currentRecruiter());
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (run.size() >= maxItems) {
+                run.reject("A bulk import may contain at most " + maxItems + " jobs");
+                continue;
+            }
+            try {
+                run.add(objectMapper.readValue(line, JobRequest.class));
+            } catch (JsonProcessingException ex) {
+                run.reject("Malformed JSON: " + ex.getOriginalMessage());
+            }
+        }
+        return run.finish();
+    }
+
+    private UserPrincipal currentRecruiter() {
+        if (!currentUser.hasAnyRole(Role.RECRUITER, Role.ADMIN)) {
+            throw new UnauthorizedAccessException("Only recruiters can post jobs");
+        }
+        return currentUser.getPrincipal();
+    }
+
+    private class ImportRun {
+
+        private final Long recruiterId;
+        private final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        private final List<BulkJobResult> results = new ArrayList<>();
+        private final List<Job> pendingJobs = new ArrayList<>();
+        private final List<Integer> pendingIndexes = new ArrayList<>();
+        private int index;
+
+        ImportRun(UserPrincipal userPrincipal) {
+            this.recruiterId = userPrincipal.getId();
+        }
+
+        int size() {
+            return index;
+        }
+
+        void add(JobRequest request) {
+            int itemIndex = index++;
+            Set<ConstraintViolation<JobRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                results.add(BulkJobResult.failed(itemIndex, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .toList()));
+                return;
+            }
+
+            pendingJobs.add(toJob(request));
+            pendingIndexes.add(itemIndex);
+            if (pendingJobs.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void reject(String error) {
+            results.add(BulkJobResult.failed(index++, List.of(error)));
+        }
+
+        BulkImportResponse finish() {
+            flush();
+            results.sort(Comparator.comparingInt(BulkJobResult::getIndex));
+            int created = (int) results.stream().filter(BulkJobResult::isSuccess).count();
+            logger.info("Bulk import finished: {} jobs created, {} failed", created, results.size() - created);
+            return new BulkImportResponse(results.size(), created, results.size() - created, results);
+        }
+
+        private void flush() {
+            if (pendingJobs.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    // A proxy is enough for the foreign key, no need to load the recruiter row
+                    User recruiter = entityManager.getReference(User.class, recruiterId);
+                    for (Job job : pendingJobs) {
+                        job.setPostedBy(recruiter);
+                        entityManager.persist(job);
+                    }
+                    listingVersionService.bumpJobs();
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                for (int i = 0; i < pendingJobs.size(); i++) {
+                    results.add(BulkJobResult.created(pendingIndexes.get(i), pendingJobs.get(i).getId()));
+                    eventPublisher.publishEvent(JobChangedEvent.created(pendingJobs.get(i)));
+                }
+            } catch (RuntimeException ex) {
+                logger.error("Bulk import chunk of {} jobs failed", pendingJobs.size(), ex);
+                for (Integer pendingIndex : pendingIndexes) {
+                    results.add(BulkJobResult.failed(pendingIndex, List.of("Could not save job, please retry")));
+                }
+            }
+
+            pendingJobs.clear();
+            pendingIndexes.clear();
+        }
+
+        private Job toJob(JobRequest request) {
+            Job job = new Job();
+            job.setTitle(request.getTitle());
+            job.setDescription(request.getDescription());
+            job.setLocation(request.getLocation());
+            job.setEmploymentType(request.getEmploymentType());
+            job.setRequiredSkills(new ArrayList<>(request.getRequiredSkills()));
+            job.setExperienceLevel(request.getExperienceLevel());
+            job.setStatus(JobStatus.OPEN);
+            job.setExpiresAt(jobExpiryService.expiresAt(request.getExpiresAt()));
+            return job;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.talentflow.service;
+
+import com.talentflow.enums.EmploymentType;
+import com.talentflow.enums.JobStatus;
+import com.talentflow.enums.SkillMatch;
+import com.talentflow.service.search.JobDocument;
+import com.talentflow.service.search.JobSearchIndex;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Normalized job listing/search query, used as a cache key. Equivalent requests (skill order or
+ * case, a single skill under ANY or ALL) produce equal keys.
+ */
+public record JobQuery(Set<String> skills, SkillMatch skillMatch, String location, JobStatus status,
+                       EmploymentType employmentType, String sort, int page, int size) {
+
+    public static JobQuery all(Pageable pageable) {
+        return search(Set.of(), SkillMatch.ALL, null, null, null, pageable);
+    }
+
+    public static JobQuery search(Set<String> skills, SkillMatch skillMatch, String location, JobStatus status,
+                                  EmploymentType employmentType, Pageable pageable) {
+        SkillMatch match = skills.size() > 1 && skillMatch == SkillMatch.ANY ? SkillMatch.ANY : SkillMatch.ALL;
+        return new JobQuery(new TreeSet<>(skills), match, location == null ? null : JobSearchIndex.normalize(location),
+                status, employmentType, pageable.getSort().toString(), pageable.getPageNumber(), pageable.getPageSize());
+    }
+
+    /**
+     * Whether the job could be part of this query's result, by the rules both the index and the
+     * database fallback apply.
+     */
+    public boolean matches(JobDocument job) {
+        if (status != null && status != job.status()) {
+            return false;
+        }
+        if (employmentType != null && employmentType != job.employmentType()) {
+            return false;
+        }
+        if (location != null && !JobSearchIndex.matchesLocation(location, job.location())) {
+            return false;
+        }
+        if (!skills.isEmpty()) {
+            Set<String> jobSkills = job.skills().stream().map(JobSearchIndex::normalize).collect(Collectors.toSet());
+            return skillMatch == SkillMatch.ANY
+                    ? skills.stream().anyMatch(jobSkills::contains)
+                    : jobSkills.containsAll(skills);
+        }
+        return true;
+    }
+}
@@ -1,27 +1,52 @@
 package com.talentflow.service;
 
 import com.talentflow.dto.request.JobRequest;
+import com.talentflow.dto.response.CursorPage;
 import com.talentflow.dto.response.JobResponse;
 import com.talentflow.entity.Job;
-import com.talentflow.entity.User;
+import com.talentflow.enums.EmploymentType;
 import com.talentflow.enums.JobStatus;
+import com.talentflow.enums.Role;
+import com.talentflow.enums.SkillMatch;
 import com.talentflow.exception.ResourceNotFoundException;
+import com.talentflow.exception.ServiceUnavailableException;
 import com.talentflow.exception.UnauthorizedAccessException;
 import com.talentflow.repository.JobRepository;
-import com.talentflow.repository.UserRepository;
-import com.talentflow.security.UserPrincipal;
+import com.talentflow.repository.projection.JobRow;
+import com.talentflow.repository.projection.JobSkillRow;
+import com.talentflow.security.CurrentUser;
+import com.talentflow.service.search.FullTextIndex;
+import com.talentflow.service.search.JobChangedEvent;
+import com.talentflow.service.search.JobDocument;
+import com.talentflow.service.search.JobSearchIndex;
+import com.talentflow.service.search.SearchResult;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "talentflow.service", description = "Service method latency", histogram = true)
 public class JobService {
 
     private static final Logger logger = LoggerFactory.getLogger(JobService.class);
@@ -30,15 +55,32 @@ public class JobService {
     private JobRepository jobRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private CurrentUser currentUser;
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private FullTextIndex fullTextIndex;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Autowired
+    private ListingVersionService listingVersionService;
+
+    @Autowired
+    private ApplicationCounters applicationCounters;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JobExpiryService jobExpiryService;
 
     @Transactional
     public JobResponse createJob(JobRequest request) {
-        UserPrincipal userPrincipal = (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User recruiter = userRepository.findById(userPrincipal.getId())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        if (!recruiter.getRole().name().equals("RECRUITER") && !recruiter.getRole().name().equals("ADMIN")) {
+        if (!currentUser.hasAnyRole(Role.RECRUITER, Role.ADMIN)) {
             throw new UnauthorizedAccessException("Only recruiters can post jobs");
         }
 
@@ -50,68 +92,235 @@ public class JobService {
         job.setRequiredSkills(request.getRequiredSkills());
         job.setExperienceLevel(request.getExperienceLevel());
         job.setStatus(JobStatus.OPEN);
-        job.setPostedBy(recruiter);
+        job.setExpiresAt(jobExpiryService.expiresAt(request.getExpiresAt()));
+        job.setPostedBy(currentUser.getUser());
 
         job = jobRepository.save(job);
-        logger.info("Job created successfully: {} by {}", job.getTitle(), recruiter.getEmail());
+        listingVersionService.bumpJobs();
+        eventPublisher.publishEvent(JobChangedEvent.created(job));
+        logger.info("Job created successfully: {} by {}", job.getTitle(), currentUser.getEmail());
 
-        return convertToResponse(job);
+        return convertToResponse(job, currentUser.getFullName());
     }
 
     @Transactional
     public JobResponse updateJob(Long id, JobRequest request) {
-        UserPrincipal userPrincipal = (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Job job = jobRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
 
-        if (!job.getPostedBy().getId().equals(userPrincipal.getId()) && 
-            !userPrincipal.getRole().name().equals("ADMIN")) {
+        if (!currentUser.isSelf(job.getPostedBy().getId()) && !currentUser.isAdmin()) {
             throw new UnauthorizedAccessException("You can only update your own jobs");
         }
 
+        JobDocument previous = JobDocument.from(job);
         job.setTitle(request.getTitle());
         job.setDescription(request.getDescription());
         job.setLocation(request.getLocation());
         job.setEmploymentType(request.getEmploymentType());
         job.setRequiredSkills(request.getRequiredSkills());
         job.setExperienceLevel(request.getExperienceLevel());
+        if (request.getExpiresAt() != null) {
+            job.setExpiresAt(request.getExpiresAt());
+        }
 
-        job = jobRepository.save(job);
+        // Flushed here so the response carries the new version and updatedAt
+        job = jobRepository.saveAndFlush(job);
+        listingVersionService.bumpJobs();
+        eventPublisher.publishEvent(JobChangedEvent.updated(previous, job));
         logger.info("Job updated successfully: {}", job.getTitle());
 
         return convertToResponse(job);
     }
 
-    @Transactional
-    public void deleteJob(Long id) {
-        UserPrincipal userPrincipal = (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        Job job = jobRepository.findById(id)
+    // The listing version is read before the page, so a concurrent change can only make the ETag older than the body
+    @Transactional(readOnly = true)
+    public VersionedPage getAllJobs(Pageable pageable) {
+        return jobCache.getPage(JobQuery.all(pageable), () -> {
+            ContentVersion version = listingVersionService.getJobsVersion();
+            return new VersionedPage(toResponsePage(jobRepository.findJobRows(pageable)), version);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public ContentVersion getListingVersion() {
+        return listingVersionService.getJobsVersion();
+    }
+
+    @Transactional(readOnly = true)
+    public ContentVersion getJobVersion(Long id) {
+        return jobRepository.findVersionById(id)
+                .map(version -> new ContentVersion(version.getVersion(), version.getUpdatedAt()))
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
+    }
+
+    @Transactional(readOnly = true)
+    public VersionedPage searchJobs(Collection<String> skills, SkillMatch skillMatch, String location,
+                                    JobStatus status, EmploymentType employmentType, Pageable pageable) {
+        Set<String> normalizedSkills = new LinkedHashSet<>();
+        if (skills != null) {
+            skills.stream().filter(StringUtils::hasText).map(JobSearchIndex::normalize).forEach(normalizedSkills::add);
+        }
+        String locationFilter = StringUtils.hasText(location) ? location.trim() : null;
+
+        JobQuery query = JobQuery.search(normalizedSkills, skillMatch, locationFilter, status, employmentType, pageable);
+        return jobCache.getPage(query, () -> {
+            ContentVersion version = listingVersionService.getJobsVersion();
+            return new VersionedPage(loadSearchPage(normalizedSkills, skillMatch, locationFilter,
+                    status, employmentType, pageable), version);
+        });
+    }
 
-        if (!job.getPostedBy().getId().equals(userPrincipal.getId()) && 
-            !userPrincipal.getRole().name().equals("ADMIN")) {
-            throw new UnauthorizedAccessException("You can only delete your own jobs");
+    private Page<JobResponse> loadSearchPage(Set<String> normalizedSkills, SkillMatch skillMatch, String locationFilter,
+                                             JobStatus status, EmploymentType employmentType, Pageable pageable) {
+        Boolean newestFirst = indexOrder(pageable.getSort());
+        if (newestFirst == null || !jobSearchIndex.isReady()) {
+            boolean matchAll = skillMatch != SkillMatch.ANY;
+            Collection<String> skillFilter = normalizedSkills.isEmpty() ? List.of("") : normalizedSkills;
+            return toResponsePage(jobRepository.searchJobs(skillFilter, normalizedSkills.size(), matchAll,
+                    JobSearchIndex.locationPattern(locationFilter), status, employmentType, pageable));
         }
 
-        jobRepository.delete(job);
-        logger.info("Job deleted successfully: {}", job.getTitle());
+        SearchResult result = jobSearchIndex.search(normalizedSkills, skillMatch, locationFilter,
+                status, employmentType, pageable.getOffset(), pageable.getPageSize(), newestFirst);
+        return new PageImpl<>(hydrate(result.jobIds()), pageable, result.total());
     }
 
-    public Page<JobResponse> getAllJobs(Pageable pageable) {
-        return jobRepository.findAll(pageable).map(this::convertToResponse);
+    @Transactional(readOnly = true)
+    public Page<JobResponse> searchJobsByText(String query, Pageable pageable) {
+        if (!fullTextIndex.isReady()) {
+            throw new ServiceUnavailableException("Full-text search index is not ready yet, please retry shortly");
+        }
+        SearchResult result = fullTextIndex.search(query, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(hydrate(result.jobIds()), pageable, result.total());
     }
 
-    public Page<JobResponse> searchJobs(String skill, String location, JobStatus status, Pageable pageable) {
-        return jobRepository.searchJobs(skill, location, status, pageable).map(this::convertToResponse);
+    // The index keeps jobs in creation order, so it can only serve createdAt sorts (or none)
+    private Boolean indexOrder(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1 || !orders.get(0).getProperty().equals("createdAt")) {
+            return null;
+        }
+        return orders.get(0).isDescending();
     }
 
+    private List<JobResponse> hydrate(List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobRow> rowsById = jobRepository.findJobRowsByIdIn(jobIds).stream()
+                .collect(Collectors.toMap(JobRow::getId, Function.identity()));
+        return toResponses(jobIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<JobResponse> getAllJobs(String cursor, int size, boolean withTotal) {
+        Limit limit = Limit.of(size + 1);
+        List<JobRow> jobs;
+        if (StringUtils.hasText(cursor)) {
+            JobCursor position = JobCursor.decode(cursor);
+            jobs = jobRepository.findPageAfter(position.createdAt(), position.id(), limit);
+        } else {
+            jobs = jobRepository.findFirstPage(limit);
+        }
+        Long total = withTotal ? jobRepository.count() : null;
+        return toCursorPage(jobs, size, total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<JobResponse> searchJobs(String skill, String location, JobStatus status,
+                                              String cursor, int size, boolean withTotal) {
+        JobCursor position = StringUtils.hasText(cursor) ? JobCursor.decode(cursor) : null;
+        String skillFilter = StringUtils.hasText(skill) ? JobSearchIndex.normalize(skill) : null;
+        String locationFilter = JobSearchIndex.locationPattern(location);
+        List<JobRow> jobs = jobRepository.searchJobsAfter(skillFilter, locationFilter, status,
+                position == null ? null : position.createdAt(),
+                position == null ? null : position.id(),
+                Limit.of(size + 1));
+        Long total = withTotal ? jobRepository.countSearchJobs(skillFilter, locationFilter, status) : null;
+        return toCursorPage(jobs, size, total);
+    }
+
+    private CursorPage<JobResponse> toCursorPage(List<JobRow> jobs, int size, Long total) {
+        // One extra row was fetched to learn whether another page exists
+        boolean hasNext = jobs.size() > size;
+        List<JobRow> page = hasNext ? jobs.subList(0, size) : jobs;
+        String nextCursor = hasNext ? JobCursor.after(page.get(page.size() - 1)).encode() : null;
+        List<JobResponse> content = toResponses(page);
+        return new CursorPage<>(content, content.size(), hasNext, nextCursor, total);
+    }
+
+    @Transactional(readOnly = true)
     public JobResponse getJobById(Long id) {
-        Job job = jobRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
-        return convertToResponse(job);
+        return jobCache.getJob(id, () -> {
+            JobRow job = jobRepository.findJobRowById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
+            return toResponses(List.of(job)).get(0);
+        });
+    }
+
+    // Anonymous callers and other recruiters' jobs are returned unchanged
+    public JobResponse withApplicationCounts(JobResponse job) {
+        if (!currentUser.isAuthenticated()) {
+            return job;
+        }
+        if (!currentUser.isAdmin() && !currentUser.isSelf(job.getPostedById())) {
+            return job;
+        }
+        return job.withApplicationCounts(applicationCounters.getCounts(job.getId()));
+    }
+
+    public Page<JobResponse> withApplicationCounts(Page<JobResponse> jobs) {
+        return jobs.map(this::withApplicationCounts);
+    }
+
+    private Page<JobResponse> toResponsePage(Page<JobRow> rows) {
+        return new PageImpl<>(toResponses(rows.getContent()), rows.getPageable(), rows.getTotalElements());
+    }
+
+    // Two queries per page whatever its size: the rows themselves and one IN query for their skills
+    private List<JobResponse> toResponses(List<JobRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<String>> skillsByJob = new HashMap<>();
+        for (JobSkillRow skill : jobRepository.findSkillRows(rows.stream().map(JobRow::getId).toList())) {
+            skillsByJob.computeIfAbsent(skill.getJobId(), jobId -> new ArrayList<>()).add(skill.getSkill());
+        }
+        return rows.stream()
+                .map(row -> convertToResponse(row, skillsByJob.getOrDefault(row.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
+    private JobResponse convertToResponse(JobRow row, List<String> skills) {
+        JobResponse response = new JobResponse();
+        response.setId(row.getId());
+        response.setTitle(row.getTitle());
+        response.setDescription(row.getDescription());
+        response.setLocation(row.getLocation());
+        response.setEmploymentType(row.getEmploymentType());
+        response.setRequiredSkills(skills);
+        response.setExperienceLevel(row.getExperienceLevel());
+        response.setStatus(row.getStatus());
+        response.setPostedBy(row.getPostedByName());
+        response.setPostedById(row.getPostedById());
+        response.setCreatedAt(row.getCreatedAt());
+        response.setUpdatedAt(row.getUpdatedAt());
+        response.setExpiresAt(row.getExpiresAt());
+        response.setVersion(row.getVersion());
+        return response;
     }
 
     private JobResponse convertToResponse(Job job) {
+        return convertToResponse(job, job.getPostedBy().getFullName());
+    }
+
+    private JobResponse convertToResponse(Job job, String postedBy) {
         JobResponse response = new JobResponse();
         response.setId(job.getId());
         response.setTitle(job.getTitle());
@@ -121,9 +330,12 @@ public class JobService {
         response.setRequiredSkills(job.getRequiredSkills());
         response.setExperienceLevel(job.getExperienceLevel());
         response.setStatus(job.getStatus());
-        response.setPostedBy(job.getPostedBy().getFullName());
+        response.setPostedBy(postedBy);
         response.setPostedById(job.getPostedBy().getId());
         response.setCreatedAt(job.getCreatedAt());
+        response.setUpdatedAt(job.getUpdatedAt());
+        response.setExpiresAt(job.getExpiresAt());
+        response.setVersion(job.getVersion());
         return response;
     }
 }
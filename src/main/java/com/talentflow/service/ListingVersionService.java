@@ -0,0 +1,47 @@
+package com.talentflow.service;
+
+import com.talentflow.entity.ListingVersion;
+import com.talentflow.repository.ListingVersionRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+public class ListingVersionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListingVersionService.class);
+
+    @Autowired
+    private ListingVersionRepository listingVersionRepository;
+
+    @PostConstruct
+    public void init() {
+        if (listingVersionRepository.existsById(ListingVersion.JOBS)) {
+            return;
+        }
+        try {
+            listingVersionRepository.save(new ListingVersion(ListingVersion.JOBS, 0L, LocalDateTime.now()));
+        } catch (DataIntegrityViolationException ex) {
+            logger.debug("Job listing version was seeded concurrently by another node");
+        }
+    }
+
+    // Runs inside the transaction that changes jobs, so the new version is visible exactly when the change is
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bumpJobs() {
+        listingVersionRepository.increment(ListingVersion.JOBS, LocalDateTime.now());
+    }
+
+    public ContentVersion getJobsVersion() {
+        return listingVersionRepository.findById(ListingVersion.JOBS)
+                .map(version -> new ContentVersion(version.getVersion(), version.getUpdatedAt()))
+                .orElse(new ContentVersion(0, null));
+    }
+}
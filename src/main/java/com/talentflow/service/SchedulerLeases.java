@@ -0,0 +1,65 @@
+package com.talentflow.service;
+
+import com.talentflow.repository.SchedulerLeaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Database leases that keep a scheduled task on one node of the cluster at a time. A lease is held
+ * until it is released or runs out, so it must be longer than a run; a node that dies holding one
+ * delays the task by at most the lease.
+ */
+@Component
+public class SchedulerLeases {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerLeases.class);
+
+    private final String owner = UUID.randomUUID().toString();
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    public boolean tryAcquire(String name, Duration duration) {
+        TransactionTemplate transactionTemplate = newTransaction();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(duration);
+        if (transactionTemplate.execute(status -> schedulerLeaseRepository.acquire(name, owner, now, until)) == 1) {
+            return true;
+        }
+        if (schedulerLeaseRepository.existsById(name)) {
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> schedulerLeaseRepository.create(name, owner, until));
+            return true;
+        } catch (DataIntegrityViolationException ex) {
+            logger.debug("Lease {} was created concurrently by another node", name);
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        newTransaction().executeWithoutResult(status ->
+                schedulerLeaseRepository.release(name, owner, LocalDateTime.now()));
+    }
+
+    // Separate from any caller's transaction, so the lease is visible to other nodes at once
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+}
@@ -0,0 +1,60 @@
+package com.talentflow.service;
+
+import com.talentflow.dto.response.CacheStatsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-region view of Hibernate's second-level cache. Hits and misses are Hibernate's own counts of
+ * cache lookups; size and evictions come from the Caffeine cache behind the region.
+ */
+@Component
+public class SecondLevelCache {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectProvider<CacheManager> secondLevelCacheManager;
+
+    public Map<String, CacheStatsResponse> getStats() {
+        Map<String, CacheStatsResponse> stats = new LinkedHashMap<>();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        getRegions().forEach((region, cache) -> {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            long hits = regionStatistics != null ? regionStatistics.getHitCount() : 0;
+            long misses = regionStatistics != null ? regionStatistics.getMissCount() : 0;
+            stats.put(region, CacheStatsResponse.of(cache.estimatedSize(), hits, misses, cache.stats().evictionCount()));
+        });
+        return stats;
+    }
+
+    public Map<String, com.github.benmanes.caffeine.cache.Cache<?, ?>> getRegions() {
+        Map<String, com.github.benmanes.caffeine.cache.Cache<?, ?>> regions = new LinkedHashMap<>();
+        CacheManager cacheManager = secondLevelCacheManager.getIfAvailable();
+        if (cacheManager != null) {
+            for (String region : cacheManager.getCacheNames()) {
+                regions.put(region, caffeine(cacheManager.getCache(region)));
+            }
+        }
+        return regions;
+    }
+
+    public void clear() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine(Cache<?, ?> cache) {
+        return cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+    }
+}
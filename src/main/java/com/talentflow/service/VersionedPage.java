@@ -0,0 +1,10 @@
+package com.talentflow.service;
+
+import com.talentflow.dto.response.JobResponse;
+import org.springframework.data.domain.Page;
+
+/**
+ * A page of jobs together with the listing version it was read at.
+ */
+public record VersionedPage(Page<JobResponse> page, ContentVersion version) {
+}
@@ -0,0 +1,28 @@
+package com.talentflow.service.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "outbox.log-sink.enabled", havingValue = "true", matchIfMissing = true)
+public class LogOutboxSink implements OutboxSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogOutboxSink.class);
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            logger.info("{} application={} job={} candidate={} {} -> {}", message.type(), message.applicationId(),
+                    message.jobId(), message.candidateId(), message.previousStatus(), message.status());
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.talentflow.service.outbox;
+
+import com.talentflow.dto.response.OutboxStatsResponse;
+import com.talentflow.entity.OutboxEvent;
+import com.talentflow.enums.OutboxEventType;
+import com.talentflow.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivers outbox events to every {@link OutboxSink} in the background. Each run claims batches
+ * of due events under a lease, so several nodes can dispatch without delivering the same event
+ * twice while the lease holds, folds repeated status changes of one application into a single
+ * message, and marks the batch processed once all sinks accepted it. A failed batch is retried
+ * with exponential backoff and given up on (kept with failed_at set) after max-attempts. Later
+ * events of an application are not claimed while an earlier one waits for its retry, so each
+ * application's events reach the sinks in the order they were written.
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private static final int CLEANUP_CHUNK_SIZE = 1000;
+    private static final long THROUGHPUT_WINDOW_MILLIS = 60_000;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired(required = false)
+    private List<OutboxSink> sinks = List.of();
+
+    @Value("${outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${outbox.lease:60s}")
+    private Duration lease;
+
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.initial-backoff:1s}")
+    private Duration initialBackoff;
+
+    @Value("${outbox.max-backoff:10m}")
+    private Duration maxBackoff;
+
+    @Value("${outbox.retention:7d}")
+    private Duration retention;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder totalLagMillis = new LongAdder();
+    private final Deque<long[]> recentDeliveries = new ConcurrentLinkedDeque<>();
+    private volatile long lastLagMillis;
+
+    @Scheduled(fixedDelayString = "${outbox.poll-ms:500}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+
+        // A short batch means the backlog is drained; the next poll picks up whatever arrives meanwhile
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            if (dispatchBatch() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private int dispatchBatch() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        String claimToken = UUID.randomUUID().toString();
+        List<OutboxEvent> events = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = outboxEventRepository.findClaimableIds(now, Limit.of(batchSize));
+            if (ids.isEmpty()) {
+                return List.<OutboxEvent>of();
+            }
+            outboxEventRepository.claim(ids, claimToken, now, now.plus(lease));
+            List<Long> outOfOrder = outboxEventRepository.findClaimedOutOfOrderIds(claimToken);
+            if (!outOfOrder.isEmpty()) {
+                outboxEventRepository.release(outOfOrder, claimToken);
+            }
+            return outboxEventRepository.findByClaimTokenOrderById(claimToken);
+        });
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<OutboxMessage> messages = coalesce(events);
+        try {
+            if (!messages.isEmpty()) {
+                for (OutboxSink sink : sinks) {
+                    sink.deliver(messages);
+                }
+            }
+        } catch (Exception ex) {
+            if (ex instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            markFailed(transactionTemplate, claimToken, events, ex);
+            return 0;
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.markProcessed(claimToken, LocalDateTime.now()));
+        recordDelivered(events);
+        return events.size();
+    }
+
+    // Status changes of one application collapse into one message from its first previous to its last status
+    private List<OutboxMessage> coalesce(List<OutboxEvent> events) {
+        List<OutboxMessage> messages = new ArrayList<>();
+        Map<Long, Integer> statusChangeIndex = new HashMap<>();
+        for (OutboxEvent event : events) {
+            OutboxMessage message = OutboxMessage.from(event);
+            if (event.getType() != OutboxEventType.APPLICATION_STATUS_CHANGED) {
+                messages.add(message);
+                continue;
+            }
+            Integer index = statusChangeIndex.putIfAbsent(event.getApplicationId(), messages.size());
+            if (index == null) {
+                messages.add(message);
+            } else {
+                messages.set(index, messages.get(index).followedBy(message));
+                coalesced.increment();
+            }
+        }
+        // A change that was undone within the batch is not news to anyone
+        messages.removeIf(message -> message.type() == OutboxEventType.APPLICATION_STATUS_CHANGED
+                && message.previousStatus() == message.status());
+        return messages;
+    }
+
+    private void markFailed(TransactionTemplate transactionTemplate, String claimToken,
+                           List<OutboxEvent> events, Exception ex) {
+        failedBatches.increment();
+        int attempts = events.stream().mapToInt(OutboxEvent::getAttempts).max().orElse(0) + 1;
+        long baseBackoffMillis = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempts - 1, 30));
+        // Jitter keeps nodes that failed on the same outage from retrying in lockstep
+        long backoffMillis = baseBackoffMillis + ThreadLocalRandom.current().nextLong(baseBackoffMillis / 5 + 1);
+        LocalDateTime now = LocalDateTime.now();
+        String error = String.valueOf(ex.getMessage());
+        String lastError = error.length() > 500 ? error.substring(0, 500) : error;
+
+        int givenUp = transactionTemplate.execute(status -> {
+            outboxEventRepository.markAttemptFailed(claimToken, now.plus(Duration.ofMillis(backoffMillis)), lastError);
+            return outboxEventRepository.markGivenUp(events.stream().map(OutboxEvent::getId).toList(), maxAttempts, now);
+        });
+        logger.warn("Outbox delivery of {} events failed (attempt {}), retrying in {} ms: {}",
+                events.size(), attempts, backoffMillis, lastError);
+        if (givenUp > 0) {
+            logger.error("Gave up on {} outbox events after {} attempts", givenUp, maxAttempts);
+        }
+    }
+
+    private void recordDelivered(List<OutboxEvent> events) {
+        long now = System.currentTimeMillis();
+        LocalDateTime deliveredAt = LocalDateTime.now();
+        long maxLag = 0;
+        for (OutboxEvent event : events) {
+            long lag = Duration.between(event.getCreatedAt(), deliveredAt).toMillis();
+            maxLag = Math.max(maxLag, lag);
+            totalLagMillis.add(lag);
+        }
+        lastLagMillis = maxLag;
+        delivered.add(events.size());
+        recentDeliveries.addLast(new long[] {now, events.size()});
+        pruneRecentDeliveries(now);
+    }
+
+    private void pruneRecentDeliveries(long now) {
+        long[] oldest;
+        while ((oldest = recentDeliveries.peekFirst()) != null && oldest[0] < now - THROUGHPUT_WINDOW_MILLIS) {
+            recentDeliveries.pollFirst();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup-ms:3600000}", initialDelayString = "${outbox.cleanup-ms:3600000}")
+    public void deleteProcessed() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int deleted = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status ->
+                    outboxEventRepository.deleteProcessedBefore(cutoff, CLEANUP_CHUNK_SIZE));
+            deleted += chunk;
+        } while (chunk == CLEANUP_CHUNK_SIZE);
+        if (deleted > 0) {
+            logger.info("Deleted {} delivered outbox events older than {}", deleted, retention);
+        }
+    }
+
+    public OutboxStatsResponse getStats() {
+        long now = System.currentTimeMillis();
+        pruneRecentDeliveries(now);
+        long deliveredLastMinute = recentDeliveries.stream().mapToLong(entry -> entry[1]).sum();
+        long deliveredTotal = delivered.sum();
+        LocalDateTime oldestPending = outboxEventRepository.findOldestPendingCreatedAt();
+
+        OutboxStatsResponse stats = new OutboxStatsResponse();
+        stats.setSinks(sinks.stream().map(OutboxSink::getName).toList());
+        stats.setPending(outboxEventRepository.countByProcessedAtIsNullAndFailedAtIsNull());
+        stats.setFailed(outboxEventRepository.countByFailedAtIsNotNull());
+        stats.setDelivered(deliveredTotal);
+        stats.setDeliveredPerSecond(deliveredLastMinute / (THROUGHPUT_WINDOW_MILLIS / 1000.0));
+        stats.setCoalesced(coalesced.sum());
+        stats.setFailedBatches(failedBatches.sum());
+        stats.setOldestPendingAgeMs(oldestPending == null ? 0 : Duration.between(oldestPending, LocalDateTime.now()).toMillis());
+        stats.setLastLagMs(lastLagMillis);
+        stats.setAverageLagMs(deliveredTotal == 0 ? 0 : (double) totalLagMillis.sum() / deliveredTotal);
+        return stats;
+    }
+}
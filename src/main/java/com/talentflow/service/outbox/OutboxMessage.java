@@ -0,0 +1,26 @@
+package com.talentflow.service.outbox;
+
+import com.talentflow.entity.OutboxEvent;
+import com.talentflow.enums.ApplicationStatus;
+import com.talentflow.enums.OutboxEventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * What sinks receive for an outbox event. Delivery is at least once: a batch that failed on any
+ * sink is retried as a whole, so receivers should deduplicate on eventId.
+ */
+public record OutboxMessage(Long eventId, OutboxEventType type, Long applicationId, Long jobId, Long candidateId,
+                            ApplicationStatus previousStatus, ApplicationStatus status, LocalDateTime occurredAt) {
+
+    public static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getType(), event.getApplicationId(), event.getJobId(),
+                event.getCandidateId(), event.getPreviousStatus(), event.getStatus(), event.getCreatedAt());
+    }
+
+    // Folds a later status change of the same application into this one
+    public OutboxMessage followedBy(OutboxMessage later) {
+        return new OutboxMessage(later.eventId(), type, applicationId, jobId, candidateId,
+                previousStatus, later.status(), later.occurredAt());
+    }
+}
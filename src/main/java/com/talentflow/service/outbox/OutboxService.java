@@ -0,0 +1,46 @@
+package com.talentflow.service.outbox;
+
+import com.talentflow.entity.Application;
+import com.talentflow.entity.OutboxEvent;
+import com.talentflow.enums.ApplicationStatus;
+import com.talentflow.enums.OutboxEventType;
+import com.talentflow.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Records application lifecycle events in the outbox. Only an insert happens on the request path;
+ * delivery is left to {@link OutboxDispatcher}, so sink speed never shows up in request latency.
+ */
+@Service
+public class OutboxService {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    // Runs inside the transaction that changes the application, so the event commits or rolls back with it
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applicationSubmitted(Application application) {
+        outboxEventRepository.save(new OutboxEvent(OutboxEventType.APPLICATION_SUBMITTED, application, null));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applicationStatusChanged(Application application, ApplicationStatus previousStatus) {
+        outboxEventRepository.save(new OutboxEvent(OutboxEventType.APPLICATION_STATUS_CHANGED, application, previousStatus));
+    }
+
+    // Bulk changes record their events with one statement; call it before the rows are updated
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int applicationStatusesChanging(Collection<Long> applicationIds, ApplicationStatus status) {
+        if (applicationIds.isEmpty()) {
+            return 0;
+        }
+        return outboxEventRepository.insertForApplications(applicationIds,
+                OutboxEventType.APPLICATION_STATUS_CHANGED.name(), status.name(), LocalDateTime.now());
+    }
+}
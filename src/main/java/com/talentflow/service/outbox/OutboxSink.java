@@ -0,0 +1,14 @@
+package com.talentflow.service.outbox;
+
+import java.util.List;
+
+/**
+ * Downstream receiver of application lifecycle events. Every sink bean gets every batch; throwing
+ * fails the batch, which is then retried for all sinks after a backoff.
+ */
+public interface OutboxSink {
+
+    String getName();
+
+    void deliver(List<OutboxMessage> messages) throws Exception;
+}
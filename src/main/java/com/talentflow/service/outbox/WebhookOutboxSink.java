@@ -0,0 +1,81 @@
+package com.talentflow.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Posts each batch as a JSON array to {@code outbox.webhook.url}, e.g. an ATS integration. With
+ * {@code outbox.webhook.secret} set, the body is signed with HMAC-SHA256 in the
+ * {@value #SIGNATURE_HEADER} header so the receiver can verify where it came from.
+ */
+@Component
+@ConditionalOnExpression("'${outbox.webhook.url:}' != ''")
+public class WebhookOutboxSink implements OutboxSink {
+
+    static final String SIGNATURE_HEADER = "X-TalentFlow-Signature";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${outbox.webhook.url}")
+    private URI url;
+
+    @Value("${outbox.webhook.secret:}")
+    private String secret;
+
+    @Value("${outbox.webhook.timeout:5s}")
+    private Duration timeout;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Override
+    public String getName() {
+        return "webhook";
+    }
+
+    @Override
+    public void deliver(List<OutboxMessage> messages) throws IOException, InterruptedException {
+        byte[] body = objectMapper.writeValueAsBytes(messages);
+        HttpRequest.Builder request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        if (StringUtils.hasText(secret)) {
+            request.header(SIGNATURE_HEADER, "sha256=" + sign(body));
+        }
+
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new IOException("Webhook answered " + response.statusCode());
+        }
+    }
+
+    private String sign(byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HmacSHA256 not available", ex);
+        }
+    }
+}
@@ -0,0 +1,555 @@
+package com.talentflow.service.search;
+
+import com.talentflow.repository.JobRepository;
+import com.talentflow.repository.projection.JobTextRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Relevance-ranked free-text search over job titles and descriptions, scored with BM25.
+ *
+ * The bulk of the index is an immutable segment file on local disk, memory mapped when opened.
+ * Changes since the segment was written go to a small in-memory live segment (shadowing the
+ * segment's copy of the job) and to an append-only journal, which is replayed on startup, so a
+ * restart only maps the segment and reads the journal. Changes made on other nodes, or while
+ * this one was down, arrive through the {@link JobChangeFeed}, read from the time the segment was
+ * written. A rebuild writes a fresh segment from the database and empties both.
+ */
+@Component
+public class FullTextIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(FullTextIndex.class);
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int LOAD_BATCH_SIZE = 500;
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String JOURNAL_FILE = "journal.log";
+    private static final byte JOURNAL_PUT = 1;
+    private static final byte JOURNAL_DELETE = 2;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobChangeFeed changeFeed;
+
+    @Value("${search.fulltext.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.fulltext.directory:./data/search}")
+    private String directory;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private FullTextSegment segment;
+    private Path segmentPath;
+    private BitSet deletedInSegment = new BitSet();
+    private long deletedLength;
+    private LiveSegment live = new LiveSegment();
+    private DataOutputStream journal;
+    private List<JobChangedEvent> changesDuringRebuild;
+
+    private volatile boolean ready;
+    // Changes committed before this are in the index; null until it is opened
+    private volatile LocalDateTime caughtUpTo;
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public SearchResult search(String query, long offset, int limit) {
+        List<String> tokens = TextAnalyzer.tokenize(query);
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.analyze(query));
+
+        lock.readLock().lock();
+        try {
+            // The last word may be incomplete, so it also matches every term it is a prefix of
+            if (!tokens.isEmpty() && tokens.get(tokens.size() - 1).length() >= MIN_PREFIX_LENGTH) {
+                String prefix = tokens.get(tokens.size() - 1);
+                if (segment != null) {
+                    terms.addAll(segment.termsWithPrefix(prefix, MAX_PREFIX_EXPANSIONS));
+                }
+                live.postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).keySet().stream()
+                        .limit(MAX_PREFIX_EXPANSIONS)
+                        .forEach(terms::add);
+            }
+            if (terms.isEmpty()) {
+                return new SearchResult(List.of(), 0);
+            }
+            return rank(terms, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private SearchResult rank(Set<String> terms, long offset, int limit) {
+        int segmentDocs = segment == null ? 0 : segment.docCount();
+        long documentCount = segmentDocs - deletedInSegment.cardinality() + live.documents.size();
+        if (documentCount == 0) {
+            return new SearchResult(List.of(), 0);
+        }
+        long segmentLength = segment == null ? 0 : segment.totalLength() - deletedLength;
+        double averageLength = Math.max(1.0, (double) (segmentLength + live.totalLength) / documentCount);
+
+        float[] segmentScores = new float[segmentDocs];
+        Map<Long, Float> liveScores = new HashMap<>();
+        for (String term : terms) {
+            Map<Long, Integer> livePostings = live.postings.getOrDefault(term, Map.of());
+            int docFreq = (segment == null ? 0 : segment.docFreq(term)) + livePostings.size();
+            if (docFreq == 0) {
+                continue;
+            }
+            double idf = Math.log(1 + (documentCount - docFreq + 0.5) / (docFreq + 0.5));
+
+            if (segment != null) {
+                segment.forEachPosting(term, (ordinal, frequency) -> {
+                    if (!deletedInSegment.get(ordinal)) {
+                        segmentScores[ordinal] += (float) bm25(idf, frequency, segment.length(ordinal), averageLength);
+                    }
+                });
+            }
+            livePostings.forEach((jobId, frequency) -> liveScores.merge(jobId,
+                    (float) bm25(idf, frequency, live.documents.get(jobId).length(), averageLength), Float::sum));
+        }
+
+        // Keep only the best offset + limit hits; ties go to the newer job
+        int wanted = (int) Math.min(Integer.MAX_VALUE, offset + limit);
+        Comparator<ScoredJob> worstFirst = Comparator.comparingDouble(ScoredJob::score).thenComparingLong(ScoredJob::jobId);
+        PriorityQueue<ScoredJob> top = new PriorityQueue<>(worstFirst);
+        int total = 0;
+        for (int ordinal = 0; ordinal < segmentScores.length; ordinal++) {
+            if (segmentScores[ordinal] > 0) {
+                total++;
+                offer(top, new ScoredJob(segment.jobId(ordinal), segmentScores[ordinal]), wanted, worstFirst);
+            }
+        }
+        for (Map.Entry<Long, Float> entry : liveScores.entrySet()) {
+            total++;
+            offer(top, new ScoredJob(entry.getKey(), entry.getValue()), wanted, worstFirst);
+        }
+
+        List<ScoredJob> ranked = new ArrayList<>(top);
+        ranked.sort(worstFirst.reversed());
+        List<Long> jobIds = ranked.stream().skip(offset).map(ScoredJob::jobId).toList();
+        return new SearchResult(jobIds, total);
+    }
+
+    private static void offer(PriorityQueue<ScoredJob> top, ScoredJob candidate, int wanted, Comparator<ScoredJob> order) {
+        if (wanted == 0) {
+            return;
+        }
+        if (top.size() < wanted) {
+            top.add(candidate);
+        } else if (order.compare(candidate, top.peek()) > 0) {
+            top.poll();
+            top.add(candidate);
+        }
+    }
+
+    private static double bm25(double idf, int frequency, int length, double averageLength) {
+        return idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            apply(event);
+            appendToJournal(event);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void open() {
+        if (!enabled) {
+            return;
+        }
+
+        Path latest = latestSegment();
+        if (latest == null) {
+            rebuild();
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            LocalDateTime mark = changeFeed.markAt(segmentCreatedAt(latest));
+            segment = FullTextSegment.open(latest);
+            segmentPath = latest;
+            int replayed = replayJournal();
+            journal = openJournal(true);
+            ready = true;
+            caughtUpTo = mark;
+            logger.info("Full-text index opened from {}: {} jobs, {} journal entries replayed in {} ms",
+                    latest, segment.docCount(), replayed, System.currentTimeMillis() - started);
+        } catch (IOException | RuntimeException ex) {
+            logger.warn("Could not open full-text index segment {}, rebuilding", latest, ex);
+            segment = null;
+            segmentPath = null;
+            live = new LiveSegment();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (!ready) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.fulltext.rebuild-ms:21600000}",
+               initialDelayString = "${search.fulltext.rebuild-ms:21600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        LocalDateTime mark = changeFeed.mark();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        FullTextSegment rebuilt;
+        Path rebuiltPath = directory().resolve(SEGMENT_PREFIX + started + SEGMENT_SUFFIX);
+        try {
+            Files.createDirectories(directory());
+            writeSegment(rebuiltPath);
+            rebuilt = FullTextSegment.open(rebuiltPath);
+        } catch (IOException | RuntimeException ex) {
+            logger.error("Full-text index rebuild failed, keeping the previous index", ex);
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        Path previousPath;
+        lock.writeLock().lock();
+        try {
+            previousPath = segmentPath;
+            segment = rebuilt;
+            segmentPath = rebuiltPath;
+            deletedInSegment = new BitSet();
+            deletedLength = 0;
+            live = new LiveSegment();
+            closeJournal();
+            journal = openJournal(false);
+            // Changes committed while loading may or may not be in the segment; replaying is idempotent
+            for (JobChangedEvent event : changesDuringRebuild) {
+                apply(event);
+                appendToJournal(event);
+            }
+            changesDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        caughtUpTo = mark;
+
+        if (previousPath != null && !previousPath.equals(rebuiltPath)) {
+            try {
+                Files.deleteIfExists(previousPath);
+            } catch (IOException ex) {
+                logger.warn("Could not delete old full-text segment {}", previousPath, ex);
+            }
+        }
+        logger.info("Full-text index rebuilt: {} jobs in {} ms", rebuilt.docCount(), System.currentTimeMillis() - started);
+    }
+
+    @Scheduled(fixedDelayString = "${search.change-feed.poll-ms:5000}",
+               initialDelayString = "${search.change-feed.poll-ms:5000}")
+    public void catchUp() {
+        LocalDateTime mark = caughtUpTo;
+        if (!enabled || mark == null) {
+            return;
+        }
+        if (!changeFeed.canCatchUpFrom(mark)) {
+            rebuild();
+            return;
+        }
+
+        JobChangeFeed.Changes changes;
+        try {
+            changes = changeFeed.changesSince(mark);
+        } catch (RuntimeException ex) {
+            logger.warn("Full-text index catch-up failed, retrying at the next poll", ex);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (JobChangedEvent event : changes.events()) {
+                apply(event);
+                appendToJournal(event);
+            }
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.addAll(changes.events());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        caughtUpTo = changes.next();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            int segmentDocs = segment == null ? 0 : segment.docCount() - deletedInSegment.cardinality();
+            return segmentDocs + live.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void writeSegment(Path path) throws IOException {
+        FullTextSegment.Writer writer = new FullTextSegment.Writer();
+        Long afterId = 0L;
+        List<JobTextRow> batch;
+        do {
+            batch = jobRepository.findTextRows(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            for (JobTextRow row : batch) {
+                DocumentTerms terms = DocumentTerms.of(row.getTitle(), row.getDescription());
+                writer.add(row.getId(), terms.frequencies(), terms.length());
+                afterId = row.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        writer.write(path);
+    }
+
+    private void apply(JobChangedEvent event) {
+        Integer ordinal = segment == null ? null : segment.ordinalOf(event.jobId());
+        if (ordinal != null && !deletedInSegment.get(ordinal)) {
+            deletedInSegment.set(ordinal);
+            deletedLength += segment.length(ordinal);
+        }
+        live.remove(event.jobId());
+        if (!event.isDeleted()) {
+            live.add(event.jobId(), DocumentTerms.of(event.document().title(), event.document().description()));
+        }
+    }
+
+    private Path directory() {
+        return Paths.get(directory);
+    }
+
+    // Segment names carry their creation time; older ones are leftovers of an interrupted rebuild
+    private Path latestSegment() {
+        if (!Files.isDirectory(directory())) {
+            return null;
+        }
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory(), SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(segments::add);
+        } catch (IOException ex) {
+            logger.warn("Could not list full-text index directory {}", directory, ex);
+            return null;
+        }
+        if (segments.isEmpty()) {
+            return null;
+        }
+
+        segments.sort(Comparator.comparing(path -> path.getFileName().toString()));
+        Path latest = segments.remove(segments.size() - 1);
+        for (Path stale : segments) {
+            try {
+                Files.deleteIfExists(stale);
+            } catch (IOException ex) {
+                logger.warn("Could not delete old full-text segment {}", stale, ex);
+            }
+        }
+        return latest;
+    }
+
+    // The rebuild that wrote the segment started loading at the time in its name
+    private static LocalDateTime segmentCreatedAt(Path segment) {
+        String name = segment.getFileName().toString();
+        long millis = Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    private int replayJournal() throws IOException {
+        Path path = directory().resolve(JOURNAL_FILE);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+
+        int replayed = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            while (true) {
+                byte type = in.readByte();
+                long jobId = in.readLong();
+                if (type == JOURNAL_DELETE) {
+                    apply(new JobChangedEvent(jobId, null, null));
+                } else {
+                    String title = readString(in);
+                    String description = readString(in);
+                    apply(new JobChangedEvent(jobId, null, new JobDocument(jobId, null, null, null, List.of(), title, description)));
+                }
+                replayed++;
+            }
+        } catch (EOFException ex) {
+            // End of journal, or a record cut short by a crash, which the next rebuild repairs
+        }
+        return replayed;
+    }
+
+    private DataOutputStream openJournal(boolean append) {
+        try {
+            return new DataOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(directory().resolve(JOURNAL_FILE).toFile(), append)));
+        } catch (IOException ex) {
+            logger.warn("Could not open full-text index journal, changes will not survive a restart", ex);
+            return null;
+        }
+    }
+
+    private void closeJournal() {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException ex) {
+            logger.warn("Could not close full-text index journal", ex);
+        }
+        journal = null;
+    }
+
+    private void appendToJournal(JobChangedEvent event) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.writeByte(event.isDeleted() ? JOURNAL_DELETE : JOURNAL_PUT);
+            journal.writeLong(event.jobId());
+            if (!event.isDeleted()) {
+                writeString(journal, event.document().title());
+                writeString(journal, event.document().description());
+            }
+            journal.flush();
+        } catch (IOException ex) {
+            logger.warn("Could not append job {} to the full-text index journal", event.jobId(), ex);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private record ScoredJob(long jobId, float score) {
+    }
+
+    private record DocumentTerms(Map<String, Integer> frequencies, int length) {
+
+        // Title words count TITLE_WEIGHT times, so a match in the title outranks one in the body
+        static DocumentTerms of(String title, String description) {
+            Map<String, Integer> frequencies = new HashMap<>();
+            int length = 0;
+            for (String term : TextAnalyzer.analyze(title)) {
+                frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+                length += TITLE_WEIGHT;
+            }
+            for (String term : TextAnalyzer.analyze(description)) {
+                frequencies.merge(term, 1, Integer::sum);
+                length++;
+            }
+            return new DocumentTerms(frequencies, length);
+        }
+    }
+
+    private static final class LiveSegment {
+
+        private final Map<Long, DocumentTerms> documents = new HashMap<>();
+        private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+        private long totalLength;
+
+        void add(Long jobId, DocumentTerms terms) {
+            documents.put(jobId, terms);
+            totalLength += terms.length();
+            terms.frequencies().forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(jobId, frequency));
+        }
+
+        void remove(Long jobId) {
+            DocumentTerms terms = documents.remove(jobId);
+            if (terms == null) {
+                return;
+            }
+            totalLength -= terms.length();
+            for (String term : terms.frequencies().keySet()) {
+                Map<Long, Integer> posting = postings.get(term);
+                posting.remove(jobId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
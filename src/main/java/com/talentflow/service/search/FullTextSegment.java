@@ -0,0 +1,190 @@
+package com.talentflow.service.search;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable on-disk segment of the full-text index. The document table and term dictionary are
+ * read into memory when the segment is opened; posting lists stay in the memory-mapped file and
+ * are read on demand, so opening a segment after a restart does not touch the database.
+ *
+ * Layout: header (magic, version, document count, total length, term count), then per document
+ * (job id, length), then per term (UTF-8 bytes, document frequency, postings offset), then the
+ * postings as (document ordinal, term frequency) int pairs.
+ */
+final class FullTextSegment {
+
+    private static final int MAGIC = 0x4A465453;
+    private static final int VERSION = 1;
+
+    private final MappedByteBuffer buffer;
+    private final int postingsStart;
+    private final long[] jobIds;
+    private final int[] lengths;
+    private final long totalLength;
+    private final String[] terms;
+    private final int[] docFreqs;
+    private final int[] postingOffsets;
+    private final Map<Long, Integer> ordinals;
+
+    private FullTextSegment(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IllegalStateException("Not a full-text index segment");
+        }
+        int docCount = buffer.getInt();
+        totalLength = buffer.getLong();
+        int termCount = buffer.getInt();
+
+        jobIds = new long[docCount];
+        lengths = new int[docCount];
+        ordinals = new HashMap<>(docCount * 2);
+        for (int i = 0; i < docCount; i++) {
+            jobIds[i] = buffer.getLong();
+            lengths[i] = buffer.getInt();
+            ordinals.put(jobIds[i], i);
+        }
+
+        terms = new String[termCount];
+        docFreqs = new int[termCount];
+        postingOffsets = new int[termCount];
+        for (int i = 0; i < termCount; i++) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            terms[i] = new String(bytes, StandardCharsets.UTF_8);
+            docFreqs[i] = buffer.getInt();
+            postingOffsets[i] = buffer.getInt();
+        }
+        postingsStart = buffer.position();
+    }
+
+    static FullTextSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Segment too large to map: " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            return new FullTextSegment(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    int docCount() {
+        return jobIds.length;
+    }
+
+    long totalLength() {
+        return totalLength;
+    }
+
+    long jobId(int ordinal) {
+        return jobIds[ordinal];
+    }
+
+    int length(int ordinal) {
+        return lengths[ordinal];
+    }
+
+    Integer ordinalOf(Long jobId) {
+        return ordinals.get(jobId);
+    }
+
+    int docFreq(String term) {
+        int index = Arrays.binarySearch(terms, term);
+        return index < 0 ? 0 : docFreqs[index];
+    }
+
+    List<String> termsWithPrefix(String prefix, int max) {
+        List<String> matches = new ArrayList<>();
+        int index = Arrays.binarySearch(terms, prefix);
+        for (int i = index < 0 ? -index - 1 : index; i < terms.length && matches.size() < max; i++) {
+            if (!terms[i].startsWith(prefix)) {
+                break;
+            }
+            matches.add(terms[i]);
+        }
+        return matches;
+    }
+
+    void forEachPosting(String term, PostingConsumer consumer) {
+        int index = Arrays.binarySearch(terms, term);
+        if (index < 0) {
+            return;
+        }
+        // Absolute reads do not move the buffer position, so concurrent searches are safe
+        int position = postingsStart + postingOffsets[index];
+        for (int i = 0; i < docFreqs[index]; i++, position += 8) {
+            consumer.accept(buffer.getInt(position), buffer.getInt(position + 4));
+        }
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(int ordinal, int termFrequency);
+    }
+
+    /**
+     * Collects documents in memory and writes them as a new segment file.
+     */
+    static final class Writer {
+
+        private final List<Long> jobIds = new ArrayList<>();
+        private final List<Integer> lengths = new ArrayList<>();
+        private final TreeMap<String, List<int[]>> postings = new TreeMap<>();
+        private long totalLength;
+
+        void add(long jobId, Map<String, Integer> termFrequencies, int length) {
+            int ordinal = jobIds.size();
+            jobIds.add(jobId);
+            lengths.add(length);
+            totalLength += length;
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new ArrayList<>()).add(new int[]{ordinal, frequency}));
+        }
+
+        void write(Path path) throws IOException {
+            Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(jobIds.size());
+                out.writeLong(totalLength);
+                out.writeInt(postings.size());
+                for (int i = 0; i < jobIds.size(); i++) {
+                    out.writeLong(jobIds.get(i));
+                    out.writeInt(lengths.get(i));
+                }
+
+                int offset = 0;
+                for (Map.Entry<String, List<int[]>> entry : postings.entrySet()) {
+                    byte[] bytes = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                    out.writeInt(entry.getValue().size());
+                    out.writeInt(offset);
+                    offset += entry.getValue().size() * 8;
+                }
+                for (List<int[]> list : postings.values()) {
+                    for (int[] posting : list) {
+                        out.writeInt(posting[0]);
+                        out.writeInt(posting[1]);
+                    }
+                }
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
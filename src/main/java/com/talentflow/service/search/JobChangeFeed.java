@@ -0,0 +1,121 @@
+package com.talentflow.service.search;
+
+import com.talentflow.repository.JobRepository;
+import com.talentflow.repository.JobTombstoneRepository;
+import com.talentflow.repository.projection.JobRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Job changes committed by any node since a high-water mark, read from the database, so the
+ * search indexes of every node pick up changes made elsewhere within search.change-feed.poll-ms.
+ * Changed jobs are found by updated_at and removed ones by their job_tombstones row.
+ *
+ * updated_at comes from the clock of the node that made the change, and a transaction may commit
+ * some time after it stamped its rows, so every read reaches back search.change-feed.overlap
+ * before the mark. A change can therefore be applied more than once, which is harmless.
+ */
+@Component
+public class JobChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobChangeFeed.class);
+
+    private static final int LOAD_BATCH_SIZE = 500;
+    private static final int PRUNE_CHUNK_SIZE = 1000;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobTombstoneRepository jobTombstoneRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${search.change-feed.overlap:1m}")
+    private Duration overlap;
+
+    @Value("${search.change-feed.tombstone-retention:1d}")
+    private Duration tombstoneRetention;
+
+    /**
+     * The mark for an index loaded from the database from now on: changes committed while it
+     * loads may or may not be in what it read, so they are read again by its first catch-up.
+     */
+    public LocalDateTime mark() {
+        return markAt(LocalDateTime.now());
+    }
+
+    public LocalDateTime markAt(LocalDateTime loadStarted) {
+        return loadStarted.minus(overlap);
+    }
+
+    // Tombstones older than the retention are gone, so an index further behind has to rebuild
+    public boolean canCatchUpFrom(LocalDateTime mark) {
+        return mark.isAfter(LocalDateTime.now().minus(tombstoneRetention));
+    }
+
+    /**
+     * Every job changed or removed at or after the mark, as events carrying the job's current
+     * document (or none, for a removed job), and the mark to pass next time.
+     */
+    public Changes changesSince(LocalDateTime mark) {
+        LocalDateTime next = mark();
+        List<JobChangedEvent> events = new ArrayList<>();
+
+        LocalDateTime afterUpdatedAt = mark;
+        Long afterId = 0L;
+        List<JobRow> batch;
+        do {
+            batch = jobRepository.findJobRowsUpdatedAfter(afterUpdatedAt, afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            List<Long> ids = batch.stream().map(JobRow::getId).toList();
+            for (JobDocument document : JobDocument.fromRows(batch, jobRepository.findSkillRows(ids))) {
+                events.add(new JobChangedEvent(document.id(), null, document));
+            }
+            JobRow last = batch.get(batch.size() - 1);
+            afterUpdatedAt = last.getUpdatedAt();
+            afterId = last.getId();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+
+        // Read after the rows, so a job removed in between ends up removed
+        for (Long jobId : jobTombstoneRepository.findJobIdsDeletedSince(mark)) {
+            events.add(new JobChangedEvent(jobId, null, null));
+        }
+        return new Changes(events, next);
+    }
+
+    @Scheduled(fixedDelayString = "${search.change-feed.prune-ms:3600000}",
+               initialDelayString = "${search.change-feed.prune-ms:3600000}")
+    public void pruneTombstones() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime cutoff = LocalDateTime.now().minus(tombstoneRetention);
+        int deleted = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status ->
+                    jobTombstoneRepository.deleteDeletedBefore(cutoff, PRUNE_CHUNK_SIZE));
+            deleted += chunk;
+        } while (chunk == PRUNE_CHUNK_SIZE);
+        if (deleted > 0) {
+            logger.info("Deleted {} job tombstones older than {}", deleted, tombstoneRetention);
+        }
+    }
+
+    public record Changes(List<JobChangedEvent> events, LocalDateTime next) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.talentflow.service.search;
+
+import com.talentflow.entity.Job;
+
+/**
+ * Published when a job is created, updated or deleted, with the searchable fields before and
+ * after the change. A null document means the job is gone, a null previous that it is new.
+ */
+public record JobChangedEvent(Long jobId, JobDocument previous, JobDocument document) {
+
+    public static JobChangedEvent created(Job job) {
+        return new JobChangedEvent(job.getId(), null, JobDocument.from(job));
+    }
+
+    public static JobChangedEvent updated(JobDocument previous, Job job) {
+        return new JobChangedEvent(job.getId(), previous, JobDocument.from(job));
+    }
+
+    public static JobChangedEvent updated(JobDocument previous, JobDocument document) {
+        return new JobChangedEvent(document.id(), previous, document);
+    }
+
+    public static JobChangedEvent deleted(JobDocument previous) {
+        return new JobChangedEvent(previous.id(), previous, null);
+    }
+
+    public boolean isDeleted() {
+        return document == null;
+    }
+}
@@ -0,0 +1,48 @@
+package com.talentflow.service.search;
+
+import com.talentflow.entity.Job;
+import com.talentflow.enums.EmploymentType;
+import com.talentflow.enums.JobStatus;
+import com.talentflow.repository.projection.JobRow;
+import com.talentflow.repository.projection.JobSkillRow;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The searchable fields of a job, detached from the persistence context.
+ */
+public record JobDocument(Long id, JobStatus status, EmploymentType employmentType,
+                          String location, List<String> skills, String title, String description) {
+
+    public static JobDocument from(Job job) {
+        return new JobDocument(job.getId(), job.getStatus(), job.getEmploymentType(), job.getLocation(),
+                job.getRequiredSkills().stream().filter(Objects::nonNull).toList(),
+                job.getTitle(), job.getDescription());
+    }
+
+    // For bulk changes: built from rows, so no job's skill collection is loaded
+    public static List<JobDocument> fromRows(List<JobRow> rows, List<JobSkillRow> skillRows) {
+        Map<Long, List<String>> skillsByJob = new HashMap<>();
+        for (JobSkillRow row : skillRows) {
+            if (row.getSkill() != null) {
+                skillsByJob.computeIfAbsent(row.getJobId(), jobId -> new ArrayList<>()).add(row.getSkill());
+            }
+        }
+        return rows.stream()
+                .map(row -> new JobDocument(row.getId(), row.getStatus(), row.getEmploymentType(), row.getLocation(),
+                        skillsByJob.getOrDefault(row.getId(), List.of()), row.getTitle(), row.getDescription()))
+                .toList();
+    }
+
+    public JobDocument withStatus(JobStatus status) {
+        return new JobDocument(id, status, employmentType, location, skills, title, description);
+    }
+
+    public JobDocument withoutText() {
+        return new JobDocument(id, status, employmentType, location, skills, null, null);
+    }
+}
@@ -0,0 +1,407 @@
+package com.talentflow.service.search;
+
+import com.talentflow.enums.EmploymentType;
+import com.talentflow.enums.JobStatus;
+import com.talentflow.enums.SkillMatch;
+import com.talentflow.repository.JobRepository;
+import com.talentflow.repository.projection.JobIndexRow;
+import com.talentflow.repository.projection.JobSkillRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over jobs, answering skill/location/status/employment type searches
+ * without touching the database. Every job gets a dense ordinal in creation order, and each term
+ * maps to a bitset of ordinals, so filters are bitset intersections and newest-first paging is a
+ * reverse scan of the result.
+ *
+ * The index is loaded at startup and kept current from {@link JobChangedEvent}s after commit.
+ * Changes made on other nodes arrive through the {@link JobChangeFeed} every few seconds. A
+ * periodic rebuild compacts ordinals of deleted jobs and picks up changes made outside the
+ * application.
+ */
+@Component
+public class JobSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchIndex.class);
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final BitSet EMPTY = new BitSet();
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobChangeFeed changeFeed;
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private Postings postings = new Postings();
+    private List<JobChangedEvent> changesDuringRebuild;
+
+    private volatile boolean ready;
+    // Changes committed before this are in the index; null until the first load
+    private volatile LocalDateTime caughtUpTo;
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public SearchResult search(Collection<String> skills, SkillMatch skillMatch, String location,
+                               JobStatus status, EmploymentType employmentType,
+                               long offset, int limit, boolean newestFirst) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) postings.live.clone();
+            if (status != null) {
+                matches.and(postings.byStatus.getOrDefault(status, EMPTY));
+            }
+            if (employmentType != null) {
+                matches.and(postings.byEmploymentType.getOrDefault(employmentType, EMPTY));
+            }
+            if (skills != null && !skills.isEmpty()) {
+                matches.and(skillMatch == SkillMatch.ANY ? anySkill(skills) : allSkills(skills));
+            }
+            for (String token : tokenize(location)) {
+                matches.and(locationPrefix(token));
+            }
+            return page(matches, offset, limit, newestFirst);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.apply(event);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${search.index.rebuild-ms:3600000}",
+               initialDelayString = "${search.index.rebuild-ms:3600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LocalDateTime mark = changeFeed.mark();
+        Postings rebuilt = new Postings();
+        try {
+            load(rebuilt);
+        } catch (RuntimeException ex) {
+            logger.error("Job search index rebuild failed, keeping the previous index", ex);
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Changes committed while loading may or may not be in the loaded rows; replaying is idempotent
+            changesDuringRebuild.forEach(rebuilt::apply);
+            changesDuringRebuild = null;
+            postings = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        caughtUpTo = mark;
+        logger.info("Job search index built: {} jobs in {} ms", rebuilt.ordinals.size(),
+                System.currentTimeMillis() - started);
+    }
+
+    @Scheduled(fixedDelayString = "${search.change-feed.poll-ms:5000}",
+               initialDelayString = "${search.change-feed.poll-ms:5000}")
+    public void catchUp() {
+        LocalDateTime mark = caughtUpTo;
+        if (!enabled || mark == null) {
+            return;
+        }
+        if (!changeFeed.canCatchUpFrom(mark)) {
+            rebuild();
+            return;
+        }
+
+        JobChangeFeed.Changes changes;
+        try {
+            changes = changeFeed.changesSince(mark);
+        } catch (RuntimeException ex) {
+            logger.warn("Job search index catch-up failed, retrying at the next poll", ex);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changes.events().forEach(postings::apply);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.addAll(changes.events());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        caughtUpTo = changes.next();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return postings.ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static String normalize(String term) {
+        return term == null ? "" : term.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // Every word of the query has to start a word of the location, the rule the index applies
+    public static boolean matchesLocation(String query, String location) {
+        Set<String> words = tokenize(location);
+        return tokenize(query).stream().allMatch(token -> words.stream().anyMatch(word -> word.startsWith(token)));
+    }
+
+    /**
+     * The same rule as a regular expression over the lower-cased location, one lookahead per word, for
+     * searches served by the database. Null when the query has no words.
+     */
+    public static String locationPattern(String query) {
+        Set<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        StringBuilder pattern = new StringBuilder("^");
+        for (String token : tokens) {
+            pattern.append("(?=.*(?:^|[^\\p{L}\\p{N}])").append(token).append(')');
+        }
+        return pattern.toString();
+    }
+
+    private void load(Postings target) {
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = 0L;
+        List<JobIndexRow> batch;
+        do {
+            batch = jobRepository.findIndexRows(afterCreatedAt, afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            Map<Long, List<String>> skillsByJob = new HashMap<>();
+            List<Long> ids = batch.stream().map(JobIndexRow::getId).toList();
+            for (JobSkillRow row : jobRepository.findSkillRows(ids)) {
+                if (row.getSkill() != null) {
+                    skillsByJob.computeIfAbsent(row.getJobId(), id -> new ArrayList<>()).add(row.getSkill());
+                }
+            }
+
+            for (JobIndexRow row : batch) {
+                target.put(new JobDocument(row.getId(), row.getStatus(), row.getEmploymentType(),
+                        row.getLocation(), skillsByJob.getOrDefault(row.getId(), List.of()), null, null));
+            }
+            JobIndexRow last = batch.get(batch.size() - 1);
+            afterCreatedAt = last.getCreatedAt();
+            afterId = last.getId();
+        } while (batch.size() == LOAD_BATCH_SIZE);
+    }
+
+    private BitSet allSkills(Collection<String> skills) {
+        BitSet result = null;
+        for (String skill : skills) {
+            BitSet posting = postings.bySkill.getOrDefault(normalize(skill), EMPTY);
+            if (result == null) {
+                result = (BitSet) posting.clone();
+            } else {
+                result.and(posting);
+            }
+        }
+        return result;
+    }
+
+    private BitSet anySkill(Collection<String> skills) {
+        BitSet result = new BitSet();
+        for (String skill : skills) {
+            result.or(postings.bySkill.getOrDefault(normalize(skill), EMPTY));
+        }
+        return result;
+    }
+
+    private BitSet locationPrefix(String prefix) {
+        BitSet result = new BitSet();
+        for (BitSet posting : postings.byLocationToken.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            result.or(posting);
+        }
+        return result;
+    }
+
+    private SearchResult page(BitSet matches, long offset, int limit, boolean newestFirst) {
+        int total = matches.cardinality();
+        List<Long> jobIds = new ArrayList<>(Math.min(limit, total));
+        long skipped = 0;
+        int ordinal = newestFirst ? matches.previousSetBit(matches.length() - 1) : matches.nextSetBit(0);
+        while (ordinal >= 0 && jobIds.size() < limit) {
+            if (skipped++ >= offset) {
+                jobIds.add(postings.jobIds[ordinal]);
+            }
+            ordinal = newestFirst ? matches.previousSetBit(ordinal - 1) : matches.nextSetBit(ordinal + 1);
+        }
+        return new SearchResult(jobIds, total);
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : normalize(text).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Postings {
+
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private long[] jobIds = new long[1024];
+        private JobDocument[] documents = new JobDocument[1024];
+        private int nextOrdinal;
+
+        private final BitSet live = new BitSet();
+        private final Map<String, BitSet> bySkill = new HashMap<>();
+        private final NavigableMap<String, BitSet> byLocationToken = new TreeMap<>();
+        private final Map<JobStatus, BitSet> byStatus = new EnumMap<>(JobStatus.class);
+        private final Map<EmploymentType, BitSet> byEmploymentType = new EnumMap<>(EmploymentType.class);
+
+        void apply(JobChangedEvent event) {
+            if (event.isDeleted()) {
+                remove(event.jobId());
+            } else {
+                put(event.document());
+            }
+        }
+
+        void put(JobDocument document) {
+            Integer ordinal = ordinals.get(document.id());
+            if (ordinal == null) {
+                ordinal = nextOrdinal++;
+                if (ordinal == jobIds.length) {
+                    jobIds = Arrays.copyOf(jobIds, jobIds.length * 2);
+                    documents = Arrays.copyOf(documents, documents.length * 2);
+                }
+                ordinals.put(document.id(), ordinal);
+                jobIds[ordinal] = document.id();
+            } else {
+                unindex(ordinal, documents[ordinal]);
+            }
+
+            // Title and description are only needed by the full-text index
+            documents[ordinal] = document.withoutText();
+            live.set(ordinal);
+            for (String skill : document.skills()) {
+                set(bySkill, normalize(skill), ordinal);
+            }
+            for (String token : tokenize(document.location())) {
+                set(byLocationToken, token, ordinal);
+            }
+            if (document.status() != null) {
+                set(byStatus, document.status(), ordinal);
+            }
+            if (document.employmentType() != null) {
+                set(byEmploymentType, document.employmentType(), ordinal);
+            }
+        }
+
+        void remove(Long jobId) {
+            Integer ordinal = ordinals.remove(jobId);
+            if (ordinal == null) {
+                return;
+            }
+            unindex(ordinal, documents[ordinal]);
+            documents[ordinal] = null;
+            live.clear(ordinal);
+        }
+
+        private void unindex(int ordinal, JobDocument document) {
+            for (String skill : document.skills()) {
+                clear(bySkill, normalize(skill), ordinal);
+            }
+            for (String token : tokenize(document.location())) {
+                clear(byLocationToken, token, ordinal);
+            }
+            if (document.status() != null) {
+                clear(byStatus, document.status(), ordinal);
+            }
+            if (document.employmentType() != null) {
+                clear(byEmploymentType, document.employmentType(), ordinal);
+            }
+        }
+
+        private static <K> void set(Map<K, BitSet> postings, K term, int ordinal) {
+            postings.computeIfAbsent(term, key -> new BitSet()).set(ordinal);
+        }
+
+        private static <K> void clear(Map<K, BitSet> postings, K term, int ordinal) {
+            BitSet posting = postings.get(term);
+            if (posting != null) {
+                posting.clear(ordinal);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.talentflow.service.search;
+
+import java.util.List;
+
+/**
+ * One page of matching job ids, in result order, and the total number of matches.
+ */
+public record SearchResult(List<Long> jobIds, int total) {
+}
@@ -0,0 +1,77 @@
+package com.talentflow.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns English text into index terms: lower case, stop words removed and a light suffix
+ * stemmer, so "developing", "developed" and "develops" all become "develop".
+ */
+final class TextAnalyzer {
+
+    private static final int MAX_TERM_LENGTH = 64;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is",
+            "of", "on", "or", "our", "that", "the", "this", "to", "we", "will", "with", "you", "your");
+
+    private TextAnalyzer() {
+    }
+
+    static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String token : tokenize(text)) {
+            if (!STOP_WORDS.contains(token)) {
+                terms.add(stem(token));
+            }
+        }
+        return terms;
+    }
+
+    // Keeps '+' and '#' so that "C++" and "C#" survive as terms
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#]+")) {
+            if (!token.isEmpty() && token.length() <= MAX_TERM_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    static String stem(String term) {
+        String stem = term;
+        if (stem.length() > 4 && stem.endsWith("ies")) {
+            stem = stem.substring(0, stem.length() - 3) + "y";
+        } else if (stem.endsWith("sses")) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.length() > 3 && stem.endsWith("s") && !stem.endsWith("ss") && !stem.endsWith("us")) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+
+        if (stem.length() > 5 && stem.endsWith("ing")) {
+            stem = undouble(stem.substring(0, stem.length() - 3));
+        } else if (stem.length() > 4 && stem.endsWith("ed")) {
+            stem = undouble(stem.substring(0, stem.length() - 2));
+        } else if (stem.length() > 4 && stem.endsWith("ly")) {
+            stem = stem.substring(0, stem.length() - 2);
+        }
+        return stem;
+    }
+
+    // "running" -> "runn" -> "run", but "skilled" -> "skill" keeps its double l
+    private static String undouble(String stem) {
+        int length = stem.length();
+        if (length > 2 && stem.charAt(length - 1) == stem.charAt(length - 2)
+                && "lsz".indexOf(stem.charAt(length - 1)) < 0
+                && Character.isLetter(stem.charAt(length - 1))) {
+            return stem.substring(0, length - 1);
+        }
+        return stem;
+    }
+}
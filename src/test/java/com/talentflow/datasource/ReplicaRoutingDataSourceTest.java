@@ -0,0 +1,175 @@
+package com.talentflow.datasource;
+
+import com.talentflow.entity.Job;
+import com.talentflow.entity.User;
+import com.talentflow.enums.EmploymentType;
+import com.talentflow.enums.Role;
+import com.talentflow.repository.JobRepository;
+import com.talentflow.repository.UserRepository;
+import com.talentflow.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing against two in-memory H2 databases, one standing in for the primary and one for a
+ * replica. "Replication" is a copy of the primary made before every test, after which the replica
+ * falls behind on purpose: a job saved afterwards exists only on the primary, so whether a read
+ * finds it shows where the read went. The lag probe is run by hand instead of on its schedule.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReplicaRoutingDataSourceTest.PRIMARY_URL,
+        "replicas.enabled=true",
+        "replicas.instances[0].url=" + ReplicaRoutingDataSourceTest.REPLICA_URL,
+        "replicas.max-lag=5s",
+        "replicas.read-your-writes=1m"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingDataSourceTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;MODE=MySQL;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private ReplicaRoutingDataSource routing;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User recruiter;
+
+    @BeforeEach
+    void replicate() throws Exception {
+        recruiter = user();
+        routing.probeLag();
+        copyPrimaryToReplica();
+        routing.probeLag();
+        assertThat(routing.getStats().getReplicas().get(0).isAvailable()).isTrue();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsReachTheReplica() {
+        Long jobId = saveJob();
+        long replicaConnections = replicaConnections();
+
+        assertThat(readOnly(jobId)).isFalse();
+        assertThat(replicaConnections()).isEqualTo(replicaConnections + 1);
+        assertThat(readWrite(jobId)).isTrue();
+    }
+
+    @Test
+    void readsStickToThePrimaryAfterTheUsersWrite() {
+        loginAs(recruiter);
+        long stickyReads = routing.getStickyReads();
+
+        Long jobId = saveJob();
+
+        assertThat(readOnly(jobId)).isTrue();
+        assertThat(routing.getStickyReads()).isEqualTo(stickyReads + 1);
+
+        loginAs(user());
+        assertThat(readOnly(jobId)).isFalse();
+    }
+
+    @Test
+    void readsFallBackToThePrimaryWhenTheHeartbeatIsStale() throws SQLException {
+        Long jobId = saveJob();
+        execute(REPLICA_URL, "UPDATE replica_heartbeat SET beat_millis = " + (System.currentTimeMillis() - 60_000));
+        routing.probeLag();
+        assertThat(routing.getStats().getReplicas().get(0).isAvailable()).isFalse();
+        long fallbackReads = routing.getFallbackReads();
+
+        assertThat(readOnly(jobId)).isTrue();
+        assertThat(routing.getFallbackReads()).isEqualTo(fallbackReads + 1);
+    }
+
+    private boolean readOnly(Long jobId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> jobRepository.existsById(jobId));
+    }
+
+    private boolean readWrite(Long jobId) {
+        return new TransactionTemplate(transactionManager).execute(status -> jobRepository.existsById(jobId));
+    }
+
+    private long replicaConnections() {
+        return routing.getReplicas().get(0).getConnections();
+    }
+
+    private Long saveJob() {
+        Job job = new Job();
+        job.setTitle("Replicated Position");
+        job.setDescription("Used to observe where reads and writes are routed");
+        job.setLocation("Remote");
+        job.setEmploymentType(EmploymentType.FULL_TIME);
+        job.setRequiredSkills(new ArrayList<>(List.of("SQL")));
+        job.setExperienceLevel("3+");
+        job.setPostedBy(recruiter);
+        return jobRepository.save(job).getId();
+    }
+
+    private User user() {
+        User user = new User();
+        user.setFullName("Routing Recruiter");
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("hash");
+        user.setRole(Role.RECRUITER);
+        return userRepository.save(user);
+    }
+
+    private void loginAs(User user) {
+        UserPrincipal principal = UserPrincipal.create(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    // Copies the primary, heartbeat included, so the replica is current as of now and then falls behind
+    private static void copyPrimaryToReplica() throws Exception {
+        Path script = Files.createTempFile("replica-routing-", ".sql");
+        try {
+            execute(PRIMARY_URL, "SCRIPT TO '" + script + "'");
+            execute(REPLICA_URL, "DROP ALL OBJECTS");
+            execute(REPLICA_URL, "RUNSCRIPT FROM '" + script + "'");
+        } finally {
+            Files.delete(script);
+        }
+    }
+
+    private static void execute(String url, String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.talentflow.security;
+
+import com.talentflow.entity.User;
+import com.talentflow.enums.Role;
+import com.talentflow.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The registry only records revocations with stateless tokens, which the test profile leaves off,
+ * so it is switched on here rather than starting a second application context.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserChangeListenerTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenRevocationRegistry revocationRegistry;
+
+    @Autowired
+    private TokenCache tokenCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void enableStatelessTokens() {
+        ReflectionTestUtils.setField(revocationRegistry, "statelessEnabled", true);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void disableStatelessTokens() {
+        ReflectionTestUtils.setField(revocationRegistry, "statelessEnabled", false);
+    }
+
+    @Test
+    void logoutRevokesTokensOnlyOnceItCommits() {
+        User user = user();
+        UserPrincipal issuedBefore = UserPrincipal.create(user);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.findById(user.getId()).orElseThrow().revokeTokens();
+            userRepository.flush();
+            status.setRollbackOnly();
+        });
+        assertThat(revocationRegistry.isRevoked(issuedBefore)).isFalse();
+
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(user.getId()).orElseThrow().revokeTokens());
+        assertThat(revocationRegistry.isRevoked(issuedBefore)).isTrue();
+    }
+
+    @Test
+    void deactivationRevokesEveryToken() {
+        User user = user();
+        user.revokeTokens();
+        UserPrincipal issuedLater = UserPrincipal.create(user);
+
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(user.getId()).orElseThrow().setIsActive(false));
+
+        assertThat(revocationRegistry.isRevoked(issuedLater)).isTrue();
+    }
+
+    @Test
+    void otherChangesRevokeNothing() {
+        User user = user();
+        int before = revocationRegistry.size();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User loaded = userRepository.findById(user.getId()).orElseThrow();
+            loaded.setFullName("Renamed");
+            loaded.setIsActive(true);
+        });
+
+        assertThat(revocationRegistry.size()).isEqualTo(before);
+    }
+
+    @Test
+    void cachedTokensAreDroppedOnlyOnceTheChangeCommits() {
+        User user = user();
+        String token = "token-" + user.getId();
+        tokenCache.put(token, UserPrincipal.create(user), new Date(System.currentTimeMillis() + 60_000));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.findById(user.getId()).orElseThrow().setFullName("Renamed");
+            userRepository.flush();
+            assertThat(tokenCache.get(token)).isNotNull();
+            status.setRollbackOnly();
+        });
+        assertThat(tokenCache.get(token)).isNotNull();
+
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(user.getId()).orElseThrow().setFullName("Renamed"));
+        assertThat(tokenCache.get(token)).isNull();
+    }
+
+    private User user() {
+        User user = new User();
+        user.setFullName("Candidate");
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("hash");
+        user.setRole(Role.CANDIDATE);
+        return userRepository.save(user);
+    }
+}
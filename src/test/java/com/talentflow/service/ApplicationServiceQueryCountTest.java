@@ -0,0 +1,193 @@
+package com.talentflow.service;
+
+import com.talentflow.dto.request.ApplicationRequest;
+import com.talentflow.dto.request.BulkUpdateApplicationStatusRequest;
+import com.talentflow.dto.request.UpdateApplicationStatusRequest;
+import com.talentflow.dto.response.ApplicationResponse;
+import com.talentflow.dto.response.BulkStatusUpdateResponse;
+import com.talentflow.entity.Application;
+import com.talentflow.entity.Job;
+import com.talentflow.entity.OutboxEvent;
+import com.talentflow.entity.User;
+import com.talentflow.enums.ApplicationStatus;
+import com.talentflow.enums.Role;
+import com.talentflow.exception.ValidationException;
+import com.talentflow.repository.ApplicationRepository;
+import com.talentflow.repository.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ApplicationServiceQueryCountTest extends QueryCountTestSupport {
+
+    private static final int CONCURRENT_ATTEMPTS = 8;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void applyForJobDoesNotLoadTheCandidateOrTheJob() {
+        Job job = jobRepository.save(job(user("Recruiter", Role.RECRUITER)));
+        User candidate = user("Candidate", Role.CANDIDATE);
+        loginAs(candidate);
+        statistics.clear();
+
+        ApplicationRequest request = new ApplicationRequest();
+        request.setResumeLink("https://example.com/resume.pdf");
+        ApplicationResponse application = applicationService.applyForJob(job.getId(), request);
+
+        assertThat(application.getCandidateName()).isEqualTo("Candidate");
+        assertThat(application.getJobTitle()).isEqualTo("Java Developer");
+        // The job and candidate name in one query, the application and its outbox event
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertNoUserLoaded();
+        assertThat(statistics.getEntityStatistics(Job.class.getName()).getLoadCount()).isZero();
+    }
+
+    @Test
+    void concurrentApplicationsByOneCandidateCreateOneRow() throws Exception {
+        Job job = jobRepository.save(job(user("Recruiter", Role.RECRUITER)));
+        User candidate = user("Candidate", Role.CANDIDATE);
+
+        // Every attempt waits at the latch, so they all hit the unique key at about the same time
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ApplicationResponse>> attempts = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_ATTEMPTS);
+        try {
+            for (int i = 0; i < CONCURRENT_ATTEMPTS; i++) {
+                // Each attempt is its own request, with its own request-scoped CurrentUser
+                attempts.add(executor.submit(() -> {
+                    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+                    loginAs(candidate);
+                    try {
+                        start.await();
+                        ApplicationRequest request = new ApplicationRequest();
+                        request.setResumeLink("https://example.com/resume.pdf");
+                        return applicationService.applyForJob(job.getId(), request);
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                        RequestContextHolder.resetRequestAttributes();
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<ApplicationResponse> accepted = new ArrayList<>();
+            List<Throwable> rejected = new ArrayList<>();
+            for (Future<ApplicationResponse> attempt : attempts) {
+                try {
+                    accepted.add(attempt.get());
+                } catch (ExecutionException ex) {
+                    rejected.add(ex.getCause());
+                }
+            }
+
+            assertThat(accepted).hasSize(1);
+            // Anything but a ValidationException would reach the client as a 500
+            assertThat(rejected).hasSize(CONCURRENT_ATTEMPTS - 1).allSatisfy(ex -> assertThat(ex)
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("You have already applied for this job"));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(applicationRepository.findByJob_Id(job.getId()))
+                .extracting(application -> application.getCandidate().getId())
+                .containsExactly(candidate.getId());
+        assertThat(outboxEventRepository.findAll())
+                .filteredOn(event -> event.getJobId().equals(job.getId()))
+                .hasSize(1);
+    }
+
+    @Test
+    void getApplicationsByJobRunsOwnershipAndRowQueries() {
+        User recruiter = user("Recruiter", Role.RECRUITER);
+        Job job = jobRepository.save(job(recruiter));
+        for (int i = 0; i < 20; i++) {
+            apply(job, user("Candidate " + i, Role.CANDIDATE));
+        }
+        loginAs(recruiter);
+        statistics.clear();
+
+        Page<ApplicationResponse> page = applicationService.getApplicationsByJob(job.getId(), null, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(20);
+        // The job's title and owner, the rows with the candidates joined in, and the count
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void updateApplicationStatusLoadsTheApplicationInOneQuery() {
+        User recruiter = user("Recruiter", Role.RECRUITER);
+        Application application = apply(jobRepository.save(job(recruiter)), user("Candidate", Role.CANDIDATE));
+        loginAs(recruiter);
+        statistics.clear();
+
+        UpdateApplicationStatusRequest request = new UpdateApplicationStatusRequest();
+        request.setStatus(ApplicationStatus.SHORTLISTED);
+        ApplicationResponse updated = applicationService.updateApplicationStatus(application.getId(), request);
+
+        assertThat(updated.getStatus()).isEqualTo(ApplicationStatus.SHORTLISTED);
+        // The application with its job and candidate, its update and the outbox event
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void bulkUpdateWritesAnOutboxEventForEveryChangedApplication() {
+        User recruiter = user("Recruiter", Role.RECRUITER);
+        Job job = jobRepository.save(job(recruiter));
+        Application first = apply(job, user("First", Role.CANDIDATE));
+        Application second = apply(job, user("Second", Role.CANDIDATE));
+        Application rejected = apply(job, user("Rejected", Role.CANDIDATE));
+        rejected.setStatus(ApplicationStatus.REJECTED);
+        applicationRepository.save(rejected);
+        loginAs(recruiter);
+
+        BulkUpdateApplicationStatusRequest request = new BulkUpdateApplicationStatusRequest();
+        request.setJobId(job.getId());
+        request.setStatus(ApplicationStatus.REJECTED);
+        BulkStatusUpdateResponse response = applicationService.bulkUpdateApplicationStatus(request);
+
+        assertThat(response.getUpdated()).isEqualTo(2);
+        List<OutboxEvent> events = outboxEventRepository.findAll().stream()
+                .filter(event -> event.getJobId().equals(job.getId()))
+                .toList();
+        assertThat(events)
+                .extracting(OutboxEvent::getApplicationId, OutboxEvent::getPreviousStatus, OutboxEvent::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple(first.getId(), ApplicationStatus.APPLIED, ApplicationStatus.REJECTED),
+                        tuple(second.getId(), ApplicationStatus.APPLIED, ApplicationStatus.REJECTED));
+    }
+
+    private Application apply(Job job, User candidate) {
+        Application application = new Application();
+        application.setJob(job);
+        application.setCandidate(candidate);
+        application.setResumeLink("https://example.com/resume.pdf");
+        return applicationRepository.save(application);
+    }
+}
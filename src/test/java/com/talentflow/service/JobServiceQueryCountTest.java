@@ -0,0 +1,97 @@
+package com.talentflow.service;
+
+import com.talentflow.dto.request.JobRequest;
+import com.talentflow.dto.response.CursorPage;
+import com.talentflow.dto.response.JobResponse;
+import com.talentflow.entity.Job;
+import com.talentflow.entity.User;
+import com.talentflow.enums.EmploymentType;
+import com.talentflow.enums.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobServiceQueryCountTest extends QueryCountTestSupport {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private JobService jobService;
+
+    @Test
+    void cursorPageRunsOneRowQueryAndOneSkillsQuery() {
+        savePage();
+
+        CursorPage<JobResponse> page = jobService.getAllJobs(null, PAGE_SIZE, false);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allSatisfy(job -> {
+            assertThat(job.getPostedBy()).isEqualTo("Recruiter");
+            assertThat(job.getRequiredSkills()).containsExactlyInAnyOrder("Java", "Spring");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertNoJobOrUserLoaded();
+    }
+
+    @Test
+    void offsetPageRunsOneRowQueryAndOneSkillsQuery() {
+        savePage();
+
+        VersionedPage page = jobService.getAllJobs(PageRequest.of(0, PAGE_SIZE));
+
+        assertThat(page.page().getContent()).hasSize(PAGE_SIZE);
+        // The listing version and the count come on top of the rows and their skills
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertNoJobOrUserLoaded();
+    }
+
+    @Test
+    void createJobDoesNotLoadThePoster() {
+        User recruiter = user("Recruiter", Role.RECRUITER);
+        loginAs(recruiter);
+        statistics.clear();
+
+        JobResponse job = jobService.createJob(request());
+
+        assertThat(job.getPostedBy()).isEqualTo("Recruiter");
+        assertThat(job.getPostedById()).isEqualTo(recruiter.getId());
+        // Statements are not counted here, as the pooled job ids are sometimes topped up in between
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionStatistics(Job.class.getName() + ".requiredSkills").getRecreateCount())
+                .isEqualTo(1);
+        assertThat(statistics.getQueryExecutionCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    // Every job gets its own poster and two skills, so lazy loading would cost a query per row
+    private void savePage() {
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            jobs.add(job(user("Recruiter", Role.RECRUITER)));
+        }
+        jobRepository.saveAll(jobs);
+        statistics.clear();
+    }
+
+    private JobRequest request() {
+        JobRequest request = new JobRequest();
+        request.setTitle("Java Developer");
+        request.setDescription("Write java code");
+        request.setLocation("New York, NY");
+        request.setEmploymentType(EmploymentType.FULL_TIME);
+        request.setRequiredSkills(new ArrayList<>(List.of("Java", "Spring")));
+        request.setExperienceLevel("3+");
+        return request;
+    }
+
+    private void assertNoJobOrUserLoaded() {
+        assertThat(statistics.getEntityStatistics(Job.class.getName()).getLoadCount()).isZero();
+        assertNoUserLoaded();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+}
@@ -0,0 +1,87 @@
+package com.talentflow.service;
+
+import com.talentflow.entity.Job;
+import com.talentflow.entity.User;
+import com.talentflow.enums.EmploymentType;
+import com.talentflow.enums.Role;
+import com.talentflow.repository.JobRepository;
+import com.talentflow.repository.UserRepository;
+import com.talentflow.security.UserPrincipal;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Base for tests that count the statements a service call runs through Hibernate {@link Statistics}.
+ * Data is set up through the repositories, then the statistics are cleared before the call.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+abstract class QueryCountTestSupport {
+
+    @Autowired
+    protected JobRepository jobRepository;
+
+    @Autowired
+    protected UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected Statistics statistics;
+
+    @BeforeEach
+    void setUpStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    protected User user(String fullName, Role role) {
+        User user = new User();
+        user.setFullName(fullName);
+        user.setEmail(UUID.randomUUID() + "@example.com");
+        user.setPassword("hash");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    protected Job job(User postedBy) {
+        Job job = new Job();
+        job.setTitle("Java Developer");
+        job.setDescription("Write java code");
+        job.setLocation("New York, NY");
+        job.setEmploymentType(EmploymentType.FULL_TIME);
+        job.setRequiredSkills(new ArrayList<>(List.of("Java", "Spring")));
+        job.setExperienceLevel("3+");
+        job.setPostedBy(postedBy);
+        return job;
+    }
+
+    // Authenticates the rest of the test as the user, the way the JWT filter does for a request
+    protected void loginAs(User user) {
+        UserPrincipal principal = UserPrincipal.create(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    protected void assertNoUserLoaded() {
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+    }
+}
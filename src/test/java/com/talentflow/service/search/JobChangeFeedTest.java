@@ -0,0 +1,111 @@
+package com.talentflow.service.search;
+
+import com.talentflow.entity.Job;
+import com.talentflow.entity.User;
+import com.talentflow.enums.EmploymentType;
+import com.talentflow.enums.Role;
+import com.talentflow.enums.SkillMatch;
+import com.talentflow.repository.JobRepository;
+import com.talentflow.repository.JobTombstoneRepository;
+import com.talentflow.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Changes are written straight through the repositories, so no change event is published and the
+ * indexes only learn of them the way another node's changes reach them.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class JobChangeFeedTest {
+
+    @Autowired
+    private JobSearchIndex jobSearchIndex;
+
+    @Autowired
+    private FullTextIndex fullTextIndex;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobTombstoneRepository jobTombstoneRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void catchUpAppliesJobsCreatedUpdatedAndRemovedElsewhere() {
+        Job job = jobRepository.save(job());
+        catchUp();
+
+        assertThat(searchByLocation("Zanzibar")).contains(job.getId());
+        assertThat(fullTextIndex.search("quokka", 0, 10).jobIds()).contains(job.getId());
+
+        job.setLocation("Timbuktu");
+        job = jobRepository.save(job);
+        catchUp();
+
+        assertThat(searchByLocation("Zanzibar")).doesNotContain(job.getId());
+        assertThat(searchByLocation("Timbuktu")).contains(job.getId());
+
+        // Only the skills change, which still moves updated_at through the version bump
+        job.setRequiredSkills(new ArrayList<>(List.of("Fortran")));
+        job = jobRepository.save(job);
+        catchUp();
+
+        assertThat(jobSearchIndex.search(List.of("Fortran"), SkillMatch.ALL, null, null, null, 0, 100, true).jobIds())
+                .contains(job.getId());
+
+        Long jobId = job.getId();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jobTombstoneRepository.insertForJobs(List.of(jobId), LocalDateTime.now());
+            jobRepository.deleteById(jobId);
+        });
+        catchUp();
+
+        assertThat(searchByLocation("Timbuktu")).doesNotContain(jobId);
+        assertThat(fullTextIndex.search("quokka", 0, 10).jobIds()).doesNotContain(jobId);
+    }
+
+    private void catchUp() {
+        jobSearchIndex.catchUp();
+        fullTextIndex.catchUp();
+    }
+
+    private List<Long> searchByLocation(String location) {
+        return jobSearchIndex.search(null, SkillMatch.ALL, location, null, null, 0, 100, true).jobIds();
+    }
+
+    private Job job() {
+        User recruiter = new User();
+        recruiter.setFullName("Recruiter");
+        recruiter.setEmail(UUID.randomUUID() + "@example.com");
+        recruiter.setPassword("hash");
+        recruiter.setRole(Role.RECRUITER);
+
+        Job job = new Job();
+        job.setTitle("Quokka Handler");
+        job.setDescription("Look after the quokkas");
+        job.setLocation("Zanzibar");
+        job.setEmploymentType(EmploymentType.FULL_TIME);
+        job.setRequiredSkills(new ArrayList<>(List.of("Patience")));
+        job.setExperienceLevel("1+");
+        job.setPostedBy(userRepository.save(recruiter));
+        return job;
+    }
+}